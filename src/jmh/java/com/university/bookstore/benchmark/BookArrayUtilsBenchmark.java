@@ -0,0 +1,135 @@
+package com.university.bookstore.benchmark;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookArrayUtils;
+import com.university.bookstore.utils.YearIndex;
+
+/**
+ * JMH benchmarks for every static method in {@link BookArrayUtils}.
+ *
+ * <p>The sort benchmarks sort a fresh copy of the input on each call, so
+ * their numbers include one array copy. The {@code yearIndex*} benchmarks
+ * answer the decade queries from a {@link YearIndex} built once in setup.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookArrayUtilsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Book[] books;
+    private Book[] firstHalf;
+    private Book[] secondHalf;
+    private Book[] withDuplicates;
+    private YearIndex yearIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = BookFixtures.generate(size);
+        firstHalf = Arrays.copyOfRange(books, 0, size / 2);
+        secondHalf = Arrays.copyOfRange(books, size / 2, size);
+        withDuplicates = BookArrayUtils.merge(books, firstHalf);
+        yearIndex = YearIndex.of(books);
+    }
+
+    @Benchmark
+    public int countBeforeYear() {
+        return BookArrayUtils.countBeforeYear(books, 1980);
+    }
+
+    @Benchmark
+    public int countByAuthor() {
+        return BookArrayUtils.countByAuthor(books, "robert martin");
+    }
+
+    @Benchmark
+    public Book[] filterPriceAtMost() {
+        return BookArrayUtils.filterPriceAtMost(books, 25.0);
+    }
+
+    @Benchmark
+    public Book[] filterByDecade() {
+        return BookArrayUtils.filterByDecade(books, 1990);
+    }
+
+    @Benchmark
+    public Book[] yearIndexFilterByDecade() {
+        return yearIndex.arrayBetween(1990, 1999);
+    }
+
+    @Benchmark
+    public Book[] sortByPrice() {
+        Book[] copy = books.clone();
+        BookArrayUtils.sortByPrice(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Book[] sortByYear() {
+        Book[] copy = books.clone();
+        BookArrayUtils.sortByYear(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double averagePrice() {
+        return BookArrayUtils.averagePrice(books);
+    }
+
+    @Benchmark
+    public Book findOldest() {
+        return BookArrayUtils.findOldest(books);
+    }
+
+    @Benchmark
+    public Book[] merge() {
+        return BookArrayUtils.merge(firstHalf, secondHalf);
+    }
+
+    @Benchmark
+    public Book[] removeDuplicates() {
+        return BookArrayUtils.removeDuplicates(withDuplicates);
+    }
+
+    @Benchmark
+    public Book[] filterByYearRange() {
+        return BookArrayUtils.filterByYearRange(books, 1960, 1979);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> countByDecade() {
+        return BookArrayUtils.countByDecade(books);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> yearIndexCountByDecade() {
+        return yearIndex.countByDecade();
+    }
+
+    @Benchmark
+    public Book findLongestTitle() {
+        return BookArrayUtils.findLongestTitle(books);
+    }
+}
@@ -0,0 +1,125 @@
+package com.university.bookstore.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.university.bookstore.model.Book;
+import com.university.bookstore.utils.BookArrayUtils;
+import com.university.bookstore.utils.BookBitSet;
+import com.university.bookstore.utils.BookColumns;
+
+/**
+ * JMH benchmarks of the {@link BookColumns} kernels against the
+ * {@link BookArrayUtils} methods they mirror. Each {@code objects*} /
+ * {@code columns*} pair computes the same answer; the columns are extracted
+ * once in setup. Filters are compared as Book[] results versus row ids.
+ * The {@code *Dashboard} benchmarks chain three filters (years 1960-1999,
+ * price at most 100, the 1990s) and materialise the surviving books, either
+ * through intermediate BookArrayUtils arrays or through {@link BookBitSet}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookColumnsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Book[] books;
+    private double[] prices;
+    private int[] years;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = BookFixtures.generate(size);
+        prices = BookColumns.prices(books);
+        years = BookColumns.years(books);
+    }
+
+    @Benchmark
+    public double objectsAveragePrice() {
+        return BookArrayUtils.averagePrice(books);
+    }
+
+    @Benchmark
+    public double columnsAveragePrice() {
+        return BookColumns.averagePrice(prices);
+    }
+
+    @Benchmark
+    public int objectsCountBeforeYear() {
+        return BookArrayUtils.countBeforeYear(books, 1980);
+    }
+
+    @Benchmark
+    public int columnsCountBeforeYear() {
+        return BookColumns.countBeforeYear(years, 1980);
+    }
+
+    @Benchmark
+    public Book[] objectsFilterPriceAtMost() {
+        return BookArrayUtils.filterPriceAtMost(books, 25.0);
+    }
+
+    @Benchmark
+    public int[] columnsFilterPriceAtMost() {
+        return BookColumns.filterPriceAtMost(prices, 25.0);
+    }
+
+    @Benchmark
+    public Book[] objectsFilterByYearRange() {
+        return BookArrayUtils.filterByYearRange(books, 1960, 1979);
+    }
+
+    @Benchmark
+    public int[] columnsFilterByYearRange() {
+        return BookColumns.filterByYearRange(years, 1960, 1979);
+    }
+
+    @Benchmark
+    public Book objectsFindOldest() {
+        return BookArrayUtils.findOldest(books);
+    }
+
+    @Benchmark
+    public int columnsFindOldest() {
+        return BookColumns.findOldest(years);
+    }
+
+    @Benchmark
+    public Book[] objectsDashboard() {
+        Book[] inRange = BookArrayUtils.filterByYearRange(books, 1960, 1999);
+        return BookArrayUtils.filterByDecade(BookArrayUtils.filterPriceAtMost(inRange, 100.0), 1990);
+    }
+
+    @Benchmark
+    public Book[] bitsDashboard() {
+        return BookBitSet.yearBetween(books, 1960, 1999)
+                .and(BookBitSet.priceAtMost(books, 100.0))
+                .and(BookBitSet.decade(books, 1990))
+                .materialize(books);
+    }
+
+    @Benchmark
+    public Book[] columnsBitsDashboard() {
+        return BookBitSet.yearBetween(years, 1960, 1999)
+                .and(BookBitSet.priceAtMost(prices, 100.0))
+                .and(BookBitSet.yearBetween(years, 1990, 1999))
+                .materialize(books);
+    }
+}
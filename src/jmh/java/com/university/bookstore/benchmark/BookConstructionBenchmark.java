@@ -0,0 +1,56 @@
+package com.university.bookstore.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Compares the Book constructor with the regex-based validation it replaced
+ * ({@link LegacyBook}).
+ *
+ * <p>Run with {@code -Djmh.args="BookConstructionBenchmark -prof gc"} to see
+ * bytes allocated per construction: a canonical ISBN costs only the Book
+ * itself, while a hyphenated one adds the cleaned string.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookConstructionBenchmark {
+
+    @Param({"9780306406157", "978-0-306-40615-7"})
+    public String isbn;
+
+    private String title;
+    private String author;
+
+    @Setup
+    public void setUp() {
+        title = "Effective Java";
+        author = "Joshua Bloch";
+    }
+
+    @Benchmark
+    public Book current() {
+        return new Book(isbn, title, author, 45.0, 2018);
+    }
+
+    @Benchmark
+    public LegacyBook legacy() {
+        return new LegacyBook(isbn, title, author, 45.0, 2018);
+    }
+}
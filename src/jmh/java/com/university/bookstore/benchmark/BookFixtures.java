@@ -0,0 +1,106 @@
+package com.university.bookstore.benchmark;
+
+import java.util.SplittableRandom;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Seeded generator of valid {@link Book} instances for the benchmarks.
+ *
+ * <p>The same seed and size always produce the same books in the same order,
+ * so results stay comparable across commits. ISBNs are unique 978-prefixed
+ * ISBN-13s with a correct check digit; books are shuffled so that no scan
+ * benefits from insertion order.</p>
+ */
+public final class BookFixtures {
+
+    /** Seed used by every benchmark unless a test overrides it. */
+    public static final long DEFAULT_SEED = 20251018L;
+
+    private static final String[] WORDS = {
+            "Java", "Clean", "Code", "Patterns", "Design", "Effective", "Modern", "Systems",
+            "Algorithms", "Data", "Structures", "Concurrency", "Practice", "Theory", "Guide",
+            "Introduction", "Advanced", "Programming", "Networks", "Databases", "Compilers",
+            "Architecture", "Refactoring", "Testing", "Distributed", "Functional", "Secure"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Joshua", "Kathy", "Robert", "Martin", "Brian", "Donald", "Barbara", "Grace",
+            "Edsger", "Ada", "Alan", "Niklaus", "Frances", "Leslie", "Tony", "Margaret"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Bloch", "Sierra", "Martin", "Fowler", "Goetz", "Knuth", "Liskov", "Hopper",
+            "Dijkstra", "Lovelace", "Turing", "Wirth", "Allen", "Lamport", "Hoare", "Hamilton",
+            "Kernighan", "Ritchie", "Stroustrup", "Gosling", "Thompson", "Pike", "Cox"
+    };
+
+    private BookFixtures() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Generates {@code count} valid books from the default seed.
+     *
+     * @param count number of books
+     * @return shuffled array of unique books
+     */
+    public static Book[] generate(int count) {
+        return generate(count, DEFAULT_SEED);
+    }
+
+    /**
+     * Generates {@code count} valid books from the given seed.
+     *
+     * @param count number of books
+     * @param seed  random seed
+     * @return shuffled array of unique books
+     */
+    public static Book[] generate(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Book[] books = new Book[count];
+        for (int i = 0; i < count; i++) {
+            books[i] = new Book(isbn13(i), title(random), author(random),
+                    Math.round(random.nextDouble(1.0, 200.0) * 100) / 100.0,
+                    random.nextInt(1900, 2026));
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Book tmp = books[i];
+            books[i] = books[j];
+            books[j] = tmp;
+        }
+        return books;
+    }
+
+    /**
+     * Builds the {@code n}-th ISBN-13 of the 978 prefix with its check digit.
+     *
+     * @param n sequence number, below one billion
+     * @return 13-digit ISBN
+     */
+    public static String isbn13(int n) {
+        String body = "978" + String.format("%09d", n);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body + ((10 - sum % 10) % 10);
+    }
+
+    private static String title(SplittableRandom random) {
+        int words = random.nextInt(2, 5);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) title.append(' ');
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    private static String author(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+}
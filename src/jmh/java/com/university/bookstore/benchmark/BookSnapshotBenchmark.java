@@ -0,0 +1,72 @@
+package com.university.bookstore.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.university.bookstore.io.BookSnapshot;
+import com.university.bookstore.model.Book;
+
+/**
+ * Save and restore times of {@link BookSnapshot}, including the fsync on
+ * save.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookSnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<Book> books;
+    private Path directory;
+    private Path saved;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        books = Arrays.asList(BookFixtures.generate(size));
+        directory = Files.createTempDirectory("snapshot-bench");
+        saved = directory.resolve("saved.snapshot");
+        BookSnapshot.write(books, saved);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saved);
+        Files.deleteIfExists(directory.resolve("written.snapshot"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Path write() throws IOException {
+        Path file = directory.resolve("written.snapshot");
+        BookSnapshot.write(books, file);
+        return file;
+    }
+
+    @Benchmark
+    public List<Book> read() throws IOException {
+        return BookSnapshot.read(saved);
+    }
+}
@@ -0,0 +1,240 @@
+package com.university.bookstore.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.api.Query;
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreColumnar;
+import com.university.bookstore.impl.BookstoreConcurrent;
+import com.university.bookstore.impl.BookstoreIndexed;
+import com.university.bookstore.impl.BookstoreMapped;
+import com.university.bookstore.model.Book;
+
+/**
+ * JMH benchmarks for the {@link BookstoreAPI} implementations.
+ *
+ * <p>Each store is loaded once per trial with {@code size} seeded books.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookstoreBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"BookstoreArrayList", "BookstoreIndexed", "BookstoreConcurrent", "BookstoreColumnar",
+            "BookstoreMapped"})
+    public String store;
+
+    /**
+     * Enables BookstoreArrayList's fork-join queries on the common pool;
+     * other stores ignore it.
+     */
+    @Param({"false"})
+    public boolean parallel;
+
+    private static final Query MARTIN_MID_PRICE_2008 = Query.builder()
+            .authorContains("martin").priceBetween(20.0, 50.0).year(2008).build();
+
+    private BookstoreAPI bookstore;
+    private Supplier<Map<String, Object>> statistics;
+    private String[] probeIsbns;
+    private Book freshBook;
+    private Book duplicateBook;
+    private String middleCursor;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Book[] books = BookFixtures.generate(size);
+        List<Book> initial = Arrays.asList(books);
+        switch (store) {
+            case "BookstoreArrayList": {
+                BookstoreArrayList list = new BookstoreArrayList(initial);
+                if (parallel) list.enableParallelQueries();
+                statistics = list::getStatistics;
+                bookstore = list;
+                break;
+            }
+            case "BookstoreIndexed": {
+                BookstoreIndexed indexed = new BookstoreIndexed(initial);
+                statistics = indexed::getStatistics;
+                bookstore = indexed;
+                break;
+            }
+            case "BookstoreConcurrent":
+                bookstore = new BookstoreConcurrent(initial);
+                statistics = Collections::emptyMap;
+                break;
+            case "BookstoreColumnar": {
+                BookstoreColumnar columnar = new BookstoreColumnar(initial);
+                statistics = columnar::getStatistics;
+                bookstore = columnar;
+                break;
+            }
+            case "BookstoreMapped": {
+                BookstoreMapped mapped = new BookstoreMapped(Files.createTempDirectory("bookstore-bench"));
+                for (Book book : books) {
+                    mapped.add(book);
+                }
+                statistics = Collections::emptyMap;
+                bookstore = mapped;
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown store: " + store);
+        }
+
+        probeIsbns = new String[1024];
+        for (int i = 0; i < probeIsbns.length; i++) {
+            probeIsbns[i] = books[(int) ((long) i * size / probeIsbns.length)].getIsbn();
+        }
+        freshBook = new Book(BookFixtures.isbn13(size), "Fresh Title", "New Author", 25.0, 2024);
+        duplicateBook = books[size / 2];
+        middleCursor = Page.cursor(size / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (bookstore instanceof Closeable) {
+            ((Closeable) bookstore).close();
+        }
+    }
+
+    /**
+     * Adds a new book and removes it again so the store stays at {@code size}.
+     */
+    @Benchmark
+    public boolean add() {
+        boolean added = bookstore.add(freshBook);
+        bookstore.removeByIsbn(freshBook.getIsbn());
+        return added;
+    }
+
+    /**
+     * Rejected add of an existing ISBN: the cost of the duplicate check alone.
+     */
+    @Benchmark
+    public boolean addDuplicate() {
+        return bookstore.add(duplicateBook);
+    }
+
+    @Benchmark
+    public Book findByIsbn() {
+        probe = (probe + 1) & (probeIsbns.length - 1);
+        return bookstore.findByISBN(probeIsbns[probe]);
+    }
+
+    @Benchmark
+    public List<Book> findByTitle() {
+        return bookstore.findByTitle("patterns");
+    }
+
+    @Benchmark
+    public List<Book> findByAuthor() {
+        return bookstore.findByAuthor("martin");
+    }
+
+    @Benchmark
+    public List<Book> findByPriceRange() {
+        return bookstore.findByPriceRange(50.0, 60.0);
+    }
+
+    @Benchmark
+    public Book getMostExpensive() {
+        return bookstore.getMostExpensive();
+    }
+
+    @Benchmark
+    public List<Book> topKByPrice() {
+        return bookstore.topK(BookKey.PRICE, 20);
+    }
+
+    @Benchmark
+    public List<Book> topKByYear() {
+        return bookstore.topK(BookKey.YEAR, 20);
+    }
+
+    /**
+     * Same as add with the price view built, so it includes keeping the view
+     * sorted. The one-book page read that builds the view is O(1) after the
+     * first call.
+     */
+    @Benchmark
+    public boolean addWithSortedView() {
+        bookstore.getAllBooks(BookKey.PRICE, null, 1);
+        return add();
+    }
+
+    /**
+     * Twenty books from the middle of the inventory in price order.
+     */
+    @Benchmark
+    public List<Book> pageByPrice() {
+        return bookstore.getAllBooks(BookKey.PRICE, middleCursor, 20).getItems();
+    }
+
+    /**
+     * The same page by sorting a copy of the inventory, as a caller had to
+     * before sorted views.
+     */
+    @Benchmark
+    public List<Book> sortThenPageByPrice() {
+        List<Book> books = bookstore.getAllBooks();
+        books.sort(BookKey.PRICE.strictComparator());
+        return books.subList(size / 2, Math.min(size / 2 + 20, size));
+    }
+
+    @Benchmark
+    public List<Book> composedQuery() {
+        return bookstore.query(MARTIN_MID_PRICE_2008);
+    }
+
+    @Benchmark
+    public List<Book> manualIntersection() {
+        List<Book> byAuthor = bookstore.findByAuthor("martin");
+        byAuthor.retainAll(new HashSet<>(bookstore.findByPriceRange(20.0, 50.0)));
+        byAuthor.removeIf(book -> book.getYear() != 2008);
+        return byAuthor;
+    }
+
+    @Benchmark
+    public double inventoryValue() {
+        return bookstore.inventoryValue();
+    }
+
+    @Benchmark
+    public Map<String, Object> getStatistics() {
+        return statistics.get();
+    }
+}
@@ -0,0 +1,70 @@
+package com.university.bookstore.benchmark;
+
+import java.time.Year;
+import java.util.regex.Pattern;
+
+/**
+ * Copy of the regex-based Book validation from before the char-loop fast
+ * path, kept only as the baseline for {@link BookConstructionBenchmark}.
+ */
+final class LegacyBook {
+
+    private static final int MIN_YEAR = 1450;
+    private static final Pattern ISBN_13_PATTERN = Pattern.compile("^\\d{13}$");
+    private static final Pattern ISBN_10_PATTERN = Pattern.compile("^\\d{9}[\\dX]$");
+
+    private final String title;
+    private final String author;
+    private final int year;
+    private final double price;
+    private final String isbn;
+
+    LegacyBook(String isbn, String title, String author, double price, int year) {
+        this.title = validateStringField(title, "Title");
+        this.author = validateStringField(author, "Author");
+        this.year = validateYear(year);
+        this.price = validatePrice(price);
+        this.isbn = validateISBN(isbn);
+    }
+
+    String getIsbn() {
+        return isbn;
+    }
+
+    private String validateStringField(String value, String fieldName) {
+        if (value == null) {
+            throw new NullPointerException(fieldName + " cannot be null");
+        }
+        if (value.trim().isEmpty()) {
+            throw new IllegalArgumentException(fieldName + " cannot be empty");
+        }
+        return value.trim();
+    }
+
+    private int validateYear(int year) {
+        int currentYear = Year.now().getValue();
+        if (year < MIN_YEAR || year > currentYear + 1) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        return year;
+    }
+
+    private double validatePrice(double price) {
+        if (price < 0.0 || Double.isNaN(price) || Double.isInfinite(price)) {
+            throw new IllegalArgumentException("Invalid price: " + price);
+        }
+        return price;
+    }
+
+    private String validateISBN(String isbn) {
+        if (isbn == null) {
+            throw new NullPointerException("ISBN cannot be null");
+        }
+        String cleaned = isbn.replaceAll("-", "").trim();
+        if (!ISBN_13_PATTERN.matcher(cleaned).matches() &&
+            !ISBN_10_PATTERN.matcher(cleaned).matches()) {
+            throw new IllegalArgumentException("Invalid ISBN: " + isbn);
+        }
+        return cleaned;
+    }
+}
@@ -0,0 +1,104 @@
+package com.university.bookstore.api;
+
+import java.util.Arrays;
+
+/**
+ * Per-item outcomes of a batch mutation such as
+ * {@link BookstoreAPI#addAll} or {@link BookstoreAPI#removeAllByIsbn}.
+ *
+ * <p>Outcome {@code i} belongs to the {@code i}-th item of the batch in its
+ * iteration order.</p>
+ */
+public final class BatchResult {
+
+    /**
+     * What happened to one item of a batch.
+     */
+    public enum Outcome {
+        /** The book was added. */
+        ADDED,
+        /** The book was removed. */
+        REMOVED,
+        /** The ISBN was already in inventory or earlier in the batch; nothing changed. */
+        DUPLICATE,
+        /** No book with the ISBN was in inventory; nothing changed. */
+        NOT_FOUND,
+        /** The item was null or not an ISBN; nothing changed. */
+        INVALID
+    }
+
+    private final Outcome[] outcomes;
+    private final int succeeded;
+
+    /**
+     * Creates a result. The array is owned by the result afterwards.
+     *
+     * @param outcomes outcome of each item, in batch order
+     */
+    public BatchResult(Outcome[] outcomes) {
+        this.outcomes = outcomes;
+        int count = 0;
+        for (Outcome outcome : outcomes) {
+            if (outcome == Outcome.ADDED || outcome == Outcome.REMOVED) count++;
+        }
+        this.succeeded = count;
+    }
+
+    /**
+     * Returns the number of items in the batch.
+     *
+     * @return batch size
+     */
+    public int size() {
+        return outcomes.length;
+    }
+
+    /**
+     * Returns the outcome of one item.
+     *
+     * @param index position of the item in the batch
+     * @return its outcome
+     */
+    public Outcome get(int index) {
+        return outcomes[index];
+    }
+
+    /**
+     * Checks whether one item changed the inventory.
+     *
+     * @param index position of the item in the batch
+     * @return true if it was added or removed
+     */
+    public boolean isSucceeded(int index) {
+        Outcome outcome = outcomes[index];
+        return outcome == Outcome.ADDED || outcome == Outcome.REMOVED;
+    }
+
+    /**
+     * Returns the number of items that were added or removed.
+     *
+     * @return items that changed the inventory
+     */
+    public int succeeded() {
+        return succeeded;
+    }
+
+    /**
+     * Returns the number of items with a given outcome.
+     *
+     * @param outcome outcome to count
+     * @return matching items
+     */
+    public int count(Outcome outcome) {
+        int count = 0;
+        for (Outcome o : outcomes) {
+            if (o == outcome) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult" + Arrays.toString(outcomes);
+    }
+}
@@ -0,0 +1,53 @@
+package com.university.bookstore.api;
+
+import java.util.Comparator;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Book attributes that ranked queries such as {@link BookstoreAPI#topK} and
+ * sorted listings such as {@link BookstoreAPI#getAllBooks(BookKey)} can
+ * order by.
+ */
+public enum BookKey {
+
+    /** Price. */
+    PRICE(Comparator.comparingDouble(Book::getPrice)),
+
+    /** Publication year. */
+    YEAR(Comparator.comparingInt(Book::getYear)),
+
+    /** Title length in chars, as in BookArrayUtils.findLongestTitle. */
+    TITLE_LENGTH(Comparator.comparingInt(book -> book.getTitle().length())),
+
+    /** Title, in String.compareTo order. */
+    TITLE(Comparator.comparing(Book::getTitle));
+
+    private final Comparator<Book> order;
+    private final Comparator<Book> strictOrder;
+
+    BookKey(Comparator<Book> order) {
+        this.order = order;
+        this.strictOrder = order.thenComparingLong(Book::getIsbnKey);
+    }
+
+    /**
+     * Returns a comparator ordering books by this key, smallest first.
+     *
+     * @return ascending comparator
+     */
+    public Comparator<Book> comparator() {
+        return order;
+    }
+
+    /**
+     * Returns a comparator ordering books by this key, then by ISBN key, so
+     * that only the same book compares equal. This is the order of sorted
+     * listings.
+     *
+     * @return ascending comparator with ISBN tie-break
+     */
+    public Comparator<Book> strictComparator() {
+        return strictOrder;
+    }
+}
@@ -7,7 +7,12 @@
 package com.university.bookstore.api;
 
 import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 
 
@@ -38,4 +43,187 @@ public interface BookstoreAPI {
     Book[] snapshotArray();
 
     List<Book> getAllBooks();
+
+    /**
+     * Adds every book in {@code books}, skipping nulls and duplicate ISBNs.
+     * Implementations may override this with a cheaper bulk path.
+     *
+     * @param books books to add
+     * @return outcome of each book, in iteration order
+     */
+    default BatchResult addAll(Collection<Book> books) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[books.size()];
+        int i = 0;
+        for (Book book : books) {
+            if (book == null) outcomes[i++] = BatchResult.Outcome.INVALID;
+            else outcomes[i++] = add(book) ? BatchResult.Outcome.ADDED : BatchResult.Outcome.DUPLICATE;
+        }
+        return new BatchResult(outcomes);
+    }
+
+    /**
+     * Removes the books with the given ISBNs.
+     * Implementations may override this with a single pass over the inventory.
+     *
+     * @param isbns ISBNs to remove
+     * @return outcome of each ISBN, in iteration order
+     */
+    default BatchResult removeAllByIsbn(Collection<String> isbns) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[isbns.size()];
+        int i = 0;
+        for (String isbn : isbns) {
+            if (Isbn.key(isbn) == Isbn.NO_KEY) outcomes[i++] = BatchResult.Outcome.INVALID;
+            else outcomes[i++] = removeByIsbn(isbn) ? BatchResult.Outcome.REMOVED : BatchResult.Outcome.NOT_FOUND;
+        }
+        return new BatchResult(outcomes);
+    }
+
+    /**
+     * Returns the {@code k} books with the largest key, largest first.
+     *
+     * @param key attribute to rank by
+     * @param k maximum number of books to return
+     * @return at most k books
+     */
+    default List<Book> topK(BookKey key, int k) {
+        return topK(key, k, null);
+    }
+
+    /**
+     * Returns the {@code k} matching books with the largest key, largest
+     * first. Runs in O(N log K) with a bounded heap; books with equal keys
+     * keep inventory order. Implementations with a sorted index on the key
+     * may answer in O(K) and break ties differently.
+     *
+     * @param key attribute to rank by
+     * @param k maximum number of books to return
+     * @param filter books to consider, or null for all
+     * @return at most k books
+     * @throws IllegalArgumentException if k is negative
+     */
+    default List<Book> topK(BookKey key, int k, Predicate<Book> filter) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        return BoundedHeap.select(Arrays.asList(snapshotArray()), key.comparator().reversed(), k, filter);
+    }
+
+    /**
+     * Returns the {@code k} books with the smallest key, smallest first.
+     *
+     * @param key attribute to rank by
+     * @param k maximum number of books to return
+     * @return at most k books
+     */
+    default List<Book> bottomK(BookKey key, int k) {
+        return bottomK(key, k, null);
+    }
+
+    /**
+     * Returns the {@code k} matching books with the smallest key, smallest
+     * first, with the same cost and tie rules as {@link #topK(BookKey, int, Predicate)}.
+     *
+     * @param key attribute to rank by
+     * @param k maximum number of books to return
+     * @param filter books to consider, or null for all
+     * @return at most k books
+     * @throws IllegalArgumentException if k is negative
+     */
+    default List<Book> bottomK(BookKey key, int k, Predicate<Book> filter) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        return BoundedHeap.select(Arrays.asList(snapshotArray()), key.comparator(), k, filter);
+    }
+
+    /**
+     * Returns one page of {@link #findByTitle(String)} results. The default
+     * runs the full query and slices it; implementations may override this
+     * to stop once the page is full.
+     *
+     * @param title query
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books
+     * @throws IllegalArgumentException if limit is not positive or the cursor is malformed
+     */
+    default Page<Book> findByTitle(String title, String cursor, int limit) {
+        return Page.slice(findByTitle(title), cursor, limit);
+    }
+
+    /**
+     * Returns one page of {@link #findByAuthor(String)} results.
+     *
+     * @param author query
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books
+     * @throws IllegalArgumentException if limit is not positive or the cursor is malformed
+     */
+    default Page<Book> findByAuthor(String author, String cursor, int limit) {
+        return Page.slice(findByAuthor(author), cursor, limit);
+    }
+
+    /**
+     * Returns one page of {@link #findByPriceRange(double, double)} results.
+     *
+     * @param priceMin minimum price
+     * @param priceMax maximum price
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books
+     * @throws IllegalArgumentException if limit is not positive or the cursor is malformed
+     */
+    default Page<Book> findByPriceRange(double priceMin, double priceMax, String cursor, int limit) {
+        return Page.slice(findByPriceRange(priceMin, priceMax), cursor, limit);
+    }
+
+    /**
+     * Returns one page of {@link #getAllBooks()}.
+     *
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books
+     * @throws IllegalArgumentException if limit is not positive or the cursor is malformed
+     */
+    default Page<Book> getAllBooks(String cursor, int limit) {
+        return Page.slice(getAllBooks(), cursor, limit);
+    }
+
+    /**
+     * Returns every book ordered by {@code key}, smallest first, with equal
+     * keys in ISBN order (see {@link BookKey#strictComparator()}). Unlike the
+     * in-place sorts some stores offer, this leaves the inventory order
+     * alone. The default sorts a snapshot on every call; stores that keep
+     * sorted views copy the view instead.
+     *
+     * @param key attribute to order by
+     * @return sorted copy of the inventory
+     */
+    default List<Book> getAllBooks(BookKey key) {
+        Book[] books = snapshotArray();
+        Arrays.sort(books, key.strictComparator());
+        return new ArrayList<>(Arrays.asList(books));
+    }
+
+    /**
+     * Returns one page of {@link #getAllBooks(BookKey)}.
+     *
+     * @param key attribute to order by
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books
+     * @throws IllegalArgumentException if limit is not positive or the cursor is malformed
+     */
+    default Page<Book> getAllBooks(BookKey key, String cursor, int limit) {
+        return Page.slice(getAllBooks(key), cursor, limit);
+    }
+
+    /**
+     * Runs a composed query in a single pass. The default evaluates it over
+     * {@link #snapshotArray()}; stores with indexes override this to start
+     * from the most selective indexed condition and filter the rest.
+     *
+     * @param query conditions, ordering and limit
+     * @return matching books
+     */
+    default List<Book> query(Query query) {
+        return query.evaluate(Arrays.asList(snapshotArray()));
+    }
 }
@@ -0,0 +1,117 @@
+package com.university.bookstore.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Selects the first K books under an ordering without sorting them all.
+ *
+ * <p>Keeps the best K candidates in a binary heap with the worst of them at
+ * the root, so each book costs one comparison against the root and a
+ * replacement costs O(log K): O(N log K) in total. Books that compare equal
+ * keep their input order.</p>
+ */
+final class BoundedHeap {
+
+    private final Comparator<Book> rank;
+    private final Book[] books;
+    private final int[] positions;
+    private int size;
+
+    private BoundedHeap(Comparator<Book> rank, int k) {
+        this.rank = rank;
+        this.books = new Book[k];
+        this.positions = new int[k];
+    }
+
+    /**
+     * Returns the first {@code k} matching books under {@code rank}.
+     *
+     * @param candidates books to choose from, in the order ties should keep
+     * @param rank ordering, best first
+     * @param k maximum number of books to return
+     * @param filter books to consider, or null for all
+     * @return at most k books, best first
+     */
+    static List<Book> select(Collection<Book> candidates, Comparator<Book> rank, int k, Predicate<Book> filter) {
+        BoundedHeap heap = new BoundedHeap(rank, Math.min(k, candidates.size()));
+        int position = 0;
+        for (Book book : candidates) {
+            if (book != null && (filter == null || filter.test(book))) heap.offer(book, position);
+            position++;
+        }
+        return heap.drain();
+    }
+
+    private void offer(Book book, int position) {
+        if (books.length == 0) return;
+        if (size < books.length) {
+            books[size] = book;
+            positions[size] = position;
+            siftUp(size++);
+        } else if (rank.compare(book, books[0]) < 0) {
+            books[0] = book;
+            positions[0] = position;
+            siftDown(0);
+        }
+    }
+
+    private List<Book> drain() {
+        Book[] result = new Book[size];
+        while (size > 0) {
+            result[size - 1] = books[0];
+            size--;
+            books[0] = books[size];
+            positions[0] = positions[size];
+            books[size] = null;
+            siftDown(0);
+        }
+        List<Book> list = new ArrayList<>(result.length);
+        for (Book book : result) {
+            list.add(book);
+        }
+        return list;
+    }
+
+    /**
+     * Returns true if the entry at {@code i} ranks after the one at {@code j}.
+     */
+    private boolean worse(int i, int j) {
+        int byRank = rank.compare(books[i], books[j]);
+        return byRank != 0 ? byRank > 0 : positions[i] > positions[j];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(i, parent)) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) return;
+            if (child + 1 < size && worse(child + 1, child)) child++;
+            if (!worse(child, i)) return;
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Book book = books[i];
+        books[i] = books[j];
+        books[j] = book;
+        int position = positions[i];
+        positions[i] = positions[j];
+        positions[j] = position;
+    }
+}
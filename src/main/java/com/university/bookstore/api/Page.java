@@ -0,0 +1,132 @@
+package com.university.bookstore.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of query results and the cursor to fetch the next page.
+ *
+ * <p>Cursors are opaque strings produced by the store that returned the page
+ * and are only valid for the same query on that store. Pass null to fetch the
+ * first page. Mutations between pages are not isolated: depending on the
+ * store, books added or removed in the meantime may be skipped or repeated.</p>
+ *
+ * @param <T> item type
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Creates a page.
+     *
+     * @param items items on this page, owned by the page afterwards
+     * @param nextCursor cursor of the next page, or null if this is the last
+     */
+    public Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the items on this page.
+     *
+     * @return read-only list of items
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the cursor of the next page.
+     *
+     * @return cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether more results follow this page.
+     *
+     * @return true if {@link #getNextCursor()} is not null
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Encodes store-specific resume state as a cursor.
+     *
+     * @param values resume state
+     * @return opaque cursor
+     */
+    public static String cursor(long... values) {
+        StringBuilder cursor = new StringBuilder();
+        for (long value : values) {
+            if (cursor.length() > 0) cursor.append('.');
+            cursor.append(Long.toString(value, 36));
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * Decodes a cursor made by {@link #cursor(long...)}.
+     *
+     * @param cursor cursor to decode
+     * @param length number of values the store encoded
+     * @return resume state
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static long[] parseCursor(String cursor, int length) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != length) throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        long[] values = new long[length];
+        try {
+            for (int i = 0; i < length; i++) {
+                values[i] = Long.parseLong(parts[i], 36);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return values;
+    }
+
+    /**
+     * Decodes a cursor holding a single position, as used for offset paging.
+     *
+     * @param cursor cursor to decode, or null for the first page
+     * @return position, 0 for the first page
+     * @throws IllegalArgumentException if the cursor is malformed or out of int range
+     */
+    public static int parsePosition(String cursor) {
+        if (cursor == null) return 0;
+        long position = parseCursor(cursor, 1)[0];
+        if (position < 0 || position > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return (int) position;
+    }
+
+    /**
+     * Checks a page size argument.
+     *
+     * @param limit requested page size
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public static void checkLimit(int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("Limit must be positive");
+    }
+
+    /**
+     * Pages through a fully materialised result list by offset.
+     */
+    static <T> Page<T> slice(List<T> results, String cursor, int limit) {
+        checkLimit(limit);
+        int from = Math.min(parsePosition(cursor), results.size());
+        int to = (int) Math.min((long) from + limit, results.size());
+        return new Page<>(new ArrayList<>(results.subList(from, to)), to < results.size() ? cursor(to) : null);
+    }
+}
@@ -0,0 +1,391 @@
+package com.university.bookstore.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Conjunctive query over a store: every condition that is set must hold.
+ *
+ * <p>Built with {@link #builder()}, e.g. books by authors containing
+ * "martin", priced 20 to 50, published in 2008, newest first, at most 10:</p>
+ * <pre>
+ * Query query = Query.builder()
+ *         .authorContains("martin")
+ *         .priceBetween(20, 50)
+ *         .year(2008)
+ *         .orderByDescending(BookKey.YEAR)
+ *         .limit(10)
+ *         .build();
+ * List&lt;Book&gt; books = store.query(query);
+ * </pre>
+ *
+ * <p>{@link #evaluate(Collection)} checks all conditions in one pass over
+ * the candidates, cheapest first, instead of one scan per condition plus list
+ * intersections. With an ordering and a limit it keeps only the best
+ * {@code limit} books in a bounded heap; with a limit alone it stops at the
+ * first {@code limit} matches. Stores with indexes pick the most selective
+ * indexed condition to produce the candidates (see
+ * {@link BookstoreAPI#query(Query)}) and evaluate them with
+ * {@link #evaluate(Collection, ToIntFunction)}, so the result is the same
+ * whichever index was chosen. Text conditions match like findByTitle and
+ * findByAuthor: case-insensitive substrings.</p>
+ *
+ * <p>Queries are immutable and may be reused across stores and threads.</p>
+ */
+public final class Query {
+
+    private final String titleContains;
+    private final String authorContains;
+    private final boolean hasPriceRange;
+    private final double minPrice;
+    private final double maxPrice;
+    private final boolean hasYearRange;
+    private final int minYear;
+    private final int maxYear;
+    private final BookKey orderBy;
+    private final boolean descending;
+    private final int limit;
+
+    private Query(Builder builder) {
+        this.titleContains = builder.titleContains;
+        this.authorContains = builder.authorContains;
+        this.hasPriceRange = builder.hasPriceRange;
+        this.minPrice = builder.minPrice;
+        this.maxPrice = builder.maxPrice;
+        this.hasYearRange = builder.hasYearRange;
+        this.minYear = builder.minYear;
+        this.maxYear = builder.maxYear;
+        this.orderBy = builder.orderBy;
+        this.descending = builder.descending;
+        this.limit = builder.limit;
+    }
+
+    /**
+     * Starts a query that matches every book.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the lowercased title substring, or null if unrestricted.
+     *
+     * @return title condition
+     */
+    public String getTitleContains() {
+        return titleContains;
+    }
+
+    /**
+     * Returns the lowercased author substring, or null if unrestricted.
+     *
+     * @return author condition
+     */
+    public String getAuthorContains() {
+        return authorContains;
+    }
+
+    /**
+     * Checks whether the query restricts price.
+     *
+     * @return true if a price range is set
+     */
+    public boolean hasPriceRange() {
+        return hasPriceRange;
+    }
+
+    /**
+     * Returns the inclusive minimum price.
+     *
+     * @return minimum price, negative infinity if unrestricted
+     */
+    public double getMinPrice() {
+        return minPrice;
+    }
+
+    /**
+     * Returns the inclusive maximum price.
+     *
+     * @return maximum price, positive infinity if unrestricted
+     */
+    public double getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * Checks whether the query restricts the publication year.
+     *
+     * @return true if a year range is set
+     */
+    public boolean hasYearRange() {
+        return hasYearRange;
+    }
+
+    /**
+     * Returns the inclusive minimum year.
+     *
+     * @return minimum year, Integer.MIN_VALUE if unrestricted
+     */
+    public int getMinYear() {
+        return minYear;
+    }
+
+    /**
+     * Returns the inclusive maximum year.
+     *
+     * @return maximum year, Integer.MAX_VALUE if unrestricted
+     */
+    public int getMaxYear() {
+        return maxYear;
+    }
+
+    /**
+     * Returns the ordering key.
+     *
+     * @return key, or null if results keep candidate order
+     */
+    public BookKey getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Checks whether results are ordered largest first.
+     *
+     * @return true for descending order
+     */
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Returns the maximum number of results.
+     *
+     * @return limit, Integer.MAX_VALUE if unrestricted
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks one book against every condition, numeric ones first.
+     *
+     * @param book book to check
+     * @return true if the book matches
+     */
+    public boolean matches(Book book) {
+        if (hasYearRange && (book.getYear() < minYear || book.getYear() > maxYear)) return false;
+        if (hasPriceRange && (book.getPrice() < minPrice || book.getPrice() > maxPrice)) return false;
+        if (authorContains != null && !book.getAuthor().toLowerCase().contains(authorContains)) return false;
+        return titleContains == null || book.getTitle().toLowerCase().contains(titleContains);
+    }
+
+    /**
+     * Evaluates the query over candidate books in one pass.
+     *
+     * <p>Without an ordering, results keep candidate order, and books tied
+     * under an ordering keep it too. Pass the store's books in its own
+     * iteration order; for candidates from an index, use
+     * {@link #evaluate(Collection, ToIntFunction)}.</p>
+     *
+     * @param candidates books to consider; must include every possible match
+     * @return matching books, ordered and limited as requested
+     */
+    public List<Book> evaluate(Collection<Book> candidates) {
+        if (orderBy != null && limit < Integer.MAX_VALUE) {
+            return BoundedHeap.select(candidates, order(), limit, this::matches);
+        }
+        List<Book> results = new ArrayList<>();
+        for (Book book : candidates) {
+            if (book == null || !matches(book)) continue;
+            results.add(book);
+            if (orderBy == null && results.size() == limit) break;
+        }
+        if (orderBy != null) results.sort(order());
+        return results;
+    }
+
+    /**
+     * Evaluates the query over candidates produced by an index, in whatever
+     * order the index yields them, and returns exactly what
+     * {@link #evaluate(Collection)} would over the whole store.
+     *
+     * <p>{@code position} gives each book's place in the store's iteration
+     * order. Unordered results are sorted by it, a limit keeps the matches
+     * that come first in it, and it breaks ties under an ordering. Costs
+     * O(M log M) for M matches, or O(M log limit) with a limit.</p>
+     *
+     * @param candidates books to consider; must include every possible match
+     * @param position place of a candidate in the store's iteration order
+     * @return matching books, ordered and limited as requested
+     */
+    public List<Book> evaluate(Collection<Book> candidates, ToIntFunction<Book> position) {
+        Comparator<Book> canonical = Comparator.comparingInt(position);
+        Comparator<Book> rank = orderBy == null ? canonical : order().thenComparing(canonical);
+        if (limit < Integer.MAX_VALUE) {
+            return BoundedHeap.select(candidates, rank, limit, this::matches);
+        }
+        List<Book> results = new ArrayList<>();
+        for (Book book : candidates) {
+            if (book != null && matches(book)) results.add(book);
+        }
+        results.sort(rank);
+        return results;
+    }
+
+    private Comparator<Book> order() {
+        return descending ? orderBy.comparator().reversed() : orderBy.comparator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Query[");
+        if (titleContains != null) text.append("title~'").append(titleContains).append("' ");
+        if (authorContains != null) text.append("author~'").append(authorContains).append("' ");
+        if (hasPriceRange) text.append("price=[").append(minPrice).append(", ").append(maxPrice).append("] ");
+        if (hasYearRange) text.append("year=[").append(minYear).append(", ").append(maxYear).append("] ");
+        if (orderBy != null) text.append("orderBy=").append(orderBy).append(descending ? " desc " : " asc ");
+        if (limit < Integer.MAX_VALUE) text.append("limit=").append(limit);
+        return text.toString().trim() + "]";
+    }
+
+    /**
+     * Mutable builder for {@link Query}. Setting a condition twice replaces it.
+     */
+    public static final class Builder {
+        private String titleContains;
+        private String authorContains;
+        private boolean hasPriceRange;
+        private double minPrice = Double.NEGATIVE_INFINITY;
+        private double maxPrice = Double.POSITIVE_INFINITY;
+        private boolean hasYearRange;
+        private int minYear = Integer.MIN_VALUE;
+        private int maxYear = Integer.MAX_VALUE;
+        private BookKey orderBy;
+        private boolean descending;
+        private int limit = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Requires the title to contain {@code text}, ignoring case.
+         *
+         * @param text substring
+         * @return this builder
+         * @throws NullPointerException if text is null
+         */
+        public Builder titleContains(String text) {
+            if (text == null) throw new NullPointerException("Title text cannot be null");
+            this.titleContains = text.toLowerCase();
+            return this;
+        }
+
+        /**
+         * Requires the author to contain {@code text}, ignoring case.
+         *
+         * @param text substring
+         * @return this builder
+         * @throws NullPointerException if text is null
+         */
+        public Builder authorContains(String text) {
+            if (text == null) throw new NullPointerException("Author text cannot be null");
+            this.authorContains = text.toLowerCase();
+            return this;
+        }
+
+        /**
+         * Requires the price to be in {@code [min, max]}.
+         *
+         * @param min minimum price
+         * @param max maximum price
+         * @return this builder
+         * @throws IllegalArgumentException if min is greater than max
+         */
+        public Builder priceBetween(double min, double max) {
+            if (min > max) throw new IllegalArgumentException("Invalid price range");
+            this.hasPriceRange = true;
+            this.minPrice = min;
+            this.maxPrice = max;
+            return this;
+        }
+
+        /**
+         * Requires the book to be published in {@code year}.
+         *
+         * @param year publication year
+         * @return this builder
+         */
+        public Builder year(int year) {
+            return yearBetween(year, year);
+        }
+
+        /**
+         * Requires the publication year to be in {@code [from, to]}.
+         *
+         * @param from first year
+         * @param to last year
+         * @return this builder
+         * @throws IllegalArgumentException if from is after to
+         */
+        public Builder yearBetween(int from, int to) {
+            if (from > to) throw new IllegalArgumentException("Invalid year range");
+            this.hasYearRange = true;
+            this.minYear = from;
+            this.maxYear = to;
+            return this;
+        }
+
+        /**
+         * Orders results by {@code key}, smallest first.
+         *
+         * @param key ordering key
+         * @return this builder
+         */
+        public Builder orderBy(BookKey key) {
+            this.orderBy = key;
+            this.descending = false;
+            return this;
+        }
+
+        /**
+         * Orders results by {@code key}, largest first.
+         *
+         * @param key ordering key
+         * @return this builder
+         */
+        public Builder orderByDescending(BookKey key) {
+            this.orderBy = key;
+            this.descending = true;
+            return this;
+        }
+
+        /**
+         * Returns at most {@code limit} books.
+         *
+         * @param limit maximum number of results
+         * @return this builder
+         * @throws IllegalArgumentException if limit is not positive
+         */
+        public Builder limit(int limit) {
+            if (limit <= 0) throw new IllegalArgumentException("Limit must be positive");
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Creates the query.
+         *
+         * @return immutable query
+         */
+        public Query build() {
+            return new Query(this);
+        }
+    }
+}
@@ -5,26 +5,71 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import com.university.bookstore.api.BatchResult;
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.api.Query;
 import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+import com.university.bookstore.utils.LongIntHashMap;
+import com.university.bookstore.utils.YearIndex;
 
 /**
  * ArrayList-based implementation of the BookstoreAPI.
  *
  * <p>This implementation uses an ArrayList for storage and enforces
- * ISBN uniqueness. All collection returns are defensive copies to
- * maintain encapsulation.</p>
+ * ISBN uniqueness. A primitive map from each ISBN key in inventory to an
+ * insertion sequence is kept alongside the list, so the duplicate check on
+ * add and addAll is O(1) and a batch costs O(batch size) rather than a
+ * re-index of the inventory. The sequences follow inventory order and let
+ * queries answered from the year index return books in that order. All
+ * collection returns are defensive copies to maintain encapsulation.</p>
+ *
+ * <p>Size, total value, year range and author counts are kept as running
+ * aggregates, so getStatistics, inventoryValue and toString are O(1). A
+ * {@link YearIndex} answers findByYear and year-range queries from per-year
+ * buckets instead of scanning.</p>
+ *
+ * <p>The title, author and price queries can opt in to parallel execution with
+ * {@link #enableParallelQueries(ForkJoinPool, int)}: inventories at or above
+ * the threshold are split into chunks filtered on the given pool, and the
+ * results keep inventory order. Smaller inventories stay sequential.</p>
+ *
+ * <p>The paginated find variants scan sequentially from the cursor and stop
+ * as soon as the page is full. Removing books between pages shifts later
+ * positions, so a book may be skipped.</p>
+ *
+ * <p>{@link #getAllBooks(BookKey)} and its paginated variant read sorted
+ * views that are built on first use and then kept in order on every add and
+ * remove, so listing by price, year or title never re-sorts and never
+ * reorders the inventory.</p>
  *
  * Luxsan Indran
  * Id: 221298286
  * Date: September 18-20 2025
  */
-public class BookstoreArrayList {
+public class BookstoreArrayList implements BookstoreAPI {
+
+    /**
+     * Default inventory size at which parallel queries split the scan.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
 
     private final List<Book> inventory;
+    private final LongIntHashMap isbnKeys = new LongIntHashMap();
+    private int sequence;
+    private final InventoryStats stats = new InventoryStats();
+    private final YearIndex years = new YearIndex();
+    private final SortedViews views = new SortedViews();
+    private ForkJoinPool queryPool;
+    private int parallelThreshold = Integer.MAX_VALUE;
 
     /**
      * Default constructor creates empty inventory.
@@ -54,10 +99,44 @@ public class BookstoreArrayList {
      * @return true if added, false if null or duplicate ISBN
      */
     public boolean add(Book book) {
-        if (book == null || findByIsbn(book.getIsbn()) != null) return false;
+        if (book == null || isbnKeys.putIfAbsent(book.getIsbnKey(), nextSequence()) != LongIntHashMap.MISSING) {
+            return false;
+        }
+        stats.add(book);
+        years.add(book);
+        views.add(book);
         return inventory.add(book);
     }
 
+    /**
+     * Adds books in bulk. Duplicates are checked against the maintained
+     * ISBN-key set, so a batch costs O(batch size) whatever the inventory
+     * size.
+     *
+     * @param books books to add
+     * @return outcome of each book
+     */
+    @Override
+    public BatchResult addAll(Collection<Book> books) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[books.size()];
+        int added = inventory.size();
+        int i = 0;
+        for (Book book : books) {
+            if (book == null) {
+                outcomes[i++] = BatchResult.Outcome.INVALID;
+            } else if (isbnKeys.putIfAbsent(book.getIsbnKey(), nextSequence()) != LongIntHashMap.MISSING) {
+                outcomes[i++] = BatchResult.Outcome.DUPLICATE;
+            } else {
+                stats.add(book);
+                years.add(book);
+                inventory.add(book);
+                outcomes[i++] = BatchResult.Outcome.ADDED;
+            }
+        }
+        views.addAll(inventory.subList(added, inventory.size()));
+        return new BatchResult(outcomes);
+    }
+
     /**
      * Removes a book by ISBN.
      *
@@ -65,22 +144,104 @@ public class BookstoreArrayList {
      * @return true if removed, false if not found
      */
     public boolean removeByIsbn(String isbn) {
-        return inventory.removeIf(book -> book.getIsbn().equals(isbn));
+        long key = Isbn.key(isbn);
+        if (key == Isbn.NO_KEY || isbnKeys.remove(key) == LongIntHashMap.MISSING) return false;
+        return inventory.removeIf(book -> {
+            if (book.getIsbnKey() != key) return false;
+            stats.remove(book);
+            years.remove(book);
+            views.remove(book);
+            return true;
+        });
+    }
+
+    /**
+     * Removes books in bulk with a single removeIf pass over the inventory,
+     * checking each book against a hash set of the requested ISBNs. Removing
+     * K books costs O(N + K) instead of K separate scans. ISBNs are first
+     * checked against the maintained ISBN-key set, so a batch that matches
+     * nothing costs O(K) and skips the pass.
+     *
+     * @param isbns ISBNs to remove
+     * @return outcome of each ISBN; repeats of an ISBN are NOT_FOUND
+     */
+    @Override
+    public BatchResult removeAllByIsbn(Collection<String> isbns) {
+        BatchResult.Outcome[] outcomes = new BatchResult.Outcome[isbns.size()];
+        LongIntHashMap requested = new LongIntHashMap(isbns.size());
+        int i = 0;
+        for (String isbn : isbns) {
+            long key = Isbn.key(isbn);
+            if (key == Isbn.NO_KEY) {
+                outcomes[i] = BatchResult.Outcome.INVALID;
+            } else {
+                outcomes[i] = BatchResult.Outcome.NOT_FOUND;
+                if (isbnKeys.containsKey(key)) requested.putIfAbsent(key, i);
+            }
+            i++;
+        }
+        if (!requested.isEmpty() && inventory.removeIf(book -> {
+            int index = requested.get(book.getIsbnKey());
+            if (index == LongIntHashMap.MISSING) return false;
+            outcomes[index] = BatchResult.Outcome.REMOVED;
+            isbnKeys.remove(book.getIsbnKey());
+            stats.remove(book);
+            years.remove(book);
+            return true;
+        })) {
+            views.removeIf(book -> requested.containsKey(book.getIsbnKey()));
+        }
+        return new BatchResult(outcomes);
     }
 
     /**
-     * Finds a book by ISBN.
+     * Finds a book by ISBN. ISBN-10 and ISBN-13 spellings of the same book
+     * match each other.
      *
      * @param isbn ISBN to search
      * @return matching Book or null
      */
     public Book findByIsbn(String isbn) {
+        long key = Isbn.key(isbn);
+        return key == Isbn.NO_KEY ? null : find(key);
+    }
+
+    /**
+     * Scans the inventory from the cursor position and stops at the first
+     * match that does not fit on the page; its position is the next cursor,
+     * so the next page starts there without rescanning earlier books.
+     */
+    private Page<Book> page(Predicate<Book> matches, String cursor, int limit) {
+        Page.checkLimit(limit);
+        List<Book> items = new ArrayList<>(Math.min(limit, 64));
+        for (int position = Page.parsePosition(cursor); position < inventory.size(); position++) {
+            Book book = inventory.get(position);
+            if (!matches.test(book)) continue;
+            if (items.size() == limit) return new Page<>(items, Page.cursor(position));
+            items.add(book);
+        }
+        return new Page<>(items, null);
+    }
+
+    private Book find(long isbnKey) {
+        if (!isbnKeys.containsKey(isbnKey)) return null;
         for (Book book : inventory) {
-            if (book.getIsbn().equals(isbn)) return book;
+            if (book.getIsbnKey() == isbnKey) return book;
         }
         return null;
     }
 
+    /**
+     * Finds a book by ISBN (BookstoreAPI name for {@link #findByIsbn(String)}).
+     *
+     * @param isbn ISBN to search
+     * @return matching Book or null
+     */
+    @Override
+    public Book findByISBN(String isbn) {
+        return findByIsbn(isbn);
+    }
+
     /**
      * Finds books containing title substring.
      *
@@ -90,9 +251,7 @@ public class BookstoreArrayList {
     public List<Book> findByTitle(String title) {
         if (title == null) return Collections.emptyList();
         String query = title.toLowerCase();
-        return inventory.stream()
-                .filter(book -> book.getTitle().toLowerCase().contains(query))
-                .collect(Collectors.toList());
+        return filter(book -> book.getTitle().toLowerCase().contains(query));
     }
 
     /**
@@ -104,9 +263,7 @@ public class BookstoreArrayList {
     public List<Book> findByAuthor(String author) {
         if (author == null) return Collections.emptyList();
         String query = author.toLowerCase();
-        return inventory.stream()
-                .filter(book -> book.getAuthor().toLowerCase().contains(query))
-                .collect(Collectors.toList());
+        return filter(book -> book.getAuthor().toLowerCase().contains(query));
     }
 
     /**
@@ -118,21 +275,179 @@ public class BookstoreArrayList {
      */
     public List<Book> findByPriceRange(double min, double max) {
         if (min > max) throw new IllegalArgumentException("Invalid price range");
-        return inventory.stream()
-                .filter(book -> book.getPrice() >= min && book.getPrice() <= max)
-                .collect(Collectors.toList());
+        return filter(book -> book.getPrice() >= min && book.getPrice() <= max);
+    }
+
+    /**
+     * Returns one page of findByTitle results, scanning only until the page
+     * is full. The cursor is the inventory position to resume from.
+     *
+     * @param title query
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books
+     */
+    @Override
+    public Page<Book> findByTitle(String title, String cursor, int limit) {
+        if (title == null) return page(book -> false, cursor, limit);
+        String query = title.toLowerCase();
+        return page(book -> book.getTitle().toLowerCase().contains(query), cursor, limit);
     }
 
     /**
-     * Finds books published in a given year.
+     * Returns one page of findByAuthor results, scanning only until the page
+     * is full.
+     *
+     * @param author query
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books
+     */
+    @Override
+    public Page<Book> findByAuthor(String author, String cursor, int limit) {
+        if (author == null) return page(book -> false, cursor, limit);
+        String query = author.toLowerCase();
+        return page(book -> book.getAuthor().toLowerCase().contains(query), cursor, limit);
+    }
+
+    /**
+     * Returns one page of findByPriceRange results, scanning only until the
+     * page is full.
+     *
+     * @param min minimum price
+     * @param max maximum price
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books
+     */
+    @Override
+    public Page<Book> findByPriceRange(double min, double max, String cursor, int limit) {
+        if (min > max) throw new IllegalArgumentException("Invalid price range");
+        return page(book -> book.getPrice() >= min && book.getPrice() <= max, cursor, limit);
+    }
+
+    /**
+     * Returns one page of the inventory.
+     *
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books
+     */
+    @Override
+    public Page<Book> getAllBooks(String cursor, int limit) {
+        return page(book -> true, cursor, limit);
+    }
+
+    /**
+     * Returns every book in key order, copied from the maintained sorted
+     * view for that key.
+     *
+     * @param key attribute to order by
+     * @return sorted copy of the inventory
+     */
+    @Override
+    public List<Book> getAllBooks(BookKey key) {
+        return views.sorted(key, inventory);
+    }
+
+    /**
+     * Returns one page of the sorted view for a key, copying only that page.
+     * Books added or removed between pages shift later positions.
+     *
+     * @param key attribute to order by
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books in key order
+     */
+    @Override
+    public Page<Book> getAllBooks(BookKey key, String cursor, int limit) {
+        return views.page(key, inventory, cursor, limit);
+    }
+
+    /**
+     * Finds books published in a given year with one read of the year index.
      *
      * @param year year
      * @return list of matching books
      */
     public List<Book> findByYear(int year) {
-        return inventory.stream()
-                .filter(book -> book.getYear() == year)
-                .collect(Collectors.toList());
+        return years.findByYear(year);
+    }
+
+    /**
+     * Finds books published from {@code from} to {@code to} inclusive by
+     * reading consecutive year buckets; a decade is {@code findByYearRange(1990, 1999)}.
+     *
+     * @param from first year
+     * @param to last year
+     * @return matching books by ascending year, in inventory order within a year
+     */
+    public List<Book> findByYearRange(int from, int to) {
+        return years.findBetween(from, to);
+    }
+
+    /**
+     * Counts books published from {@code from} to {@code to} inclusive in
+     * O(1) from the year index's prefix sums.
+     *
+     * @param from first year
+     * @param to last year
+     * @return book count
+     */
+    public int countByYearRange(int from, int to) {
+        return years.countBetween(from, to);
+    }
+
+    /**
+     * Runs a composed query in one pass over the inventory, without copying
+     * it, or over the year buckets of its year range when they hold fewer
+     * books. Bucket candidates are ranked back into inventory order by the
+     * sequence stored with each ISBN key, so results, and the books a limit
+     * keeps, are the same on either path.
+     *
+     * @param query conditions, ordering and limit
+     * @return matching books
+     */
+    @Override
+    public List<Book> query(Query query) {
+        if (query.hasYearRange() && years.countBetween(query.getMinYear(), query.getMaxYear()) < inventory.size()) {
+            return query.evaluate(years.findBetween(query.getMinYear(), query.getMaxYear()),
+                    book -> isbnKeys.get(book.getIsbnKey()));
+        }
+        return query.evaluate(inventory);
+    }
+
+    /**
+     * Runs findByTitle, findByAuthor and findByPriceRange on the
+     * common ForkJoinPool once the inventory reaches
+     * {@link #DEFAULT_PARALLEL_THRESHOLD} books.
+     */
+    public void enableParallelQueries() {
+        enableParallelQueries(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Runs findByTitle, findByAuthor and findByPriceRange on
+     * {@code pool} once the inventory has at least {@code threshold} books.
+     * Results are in the same order as sequential execution.
+     *
+     * @param pool pool to run queries on
+     * @param threshold minimum inventory size for a parallel scan
+     * @throws NullPointerException if pool is null
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public void enableParallelQueries(ForkJoinPool pool, int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold cannot be negative");
+        this.queryPool = Objects.requireNonNull(pool, "pool");
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Returns the queries to sequential execution.
+     */
+    public void disableParallelQueries() {
+        this.queryPool = null;
+        this.parallelThreshold = Integer.MAX_VALUE;
     }
 
     /**
@@ -150,7 +465,7 @@ public class BookstoreArrayList {
      * @return sum of prices
      */
     public double inventoryValue() {
-        return inventory.stream().mapToDouble(Book::getPrice).sum();
+        return stats.totalValue();
     }
 
     /**
@@ -198,13 +513,21 @@ public class BookstoreArrayList {
      */
     public void clear() {
         inventory.clear();
+        isbnKeys.clear();
+        sequence = 0;
+        stats.clear();
+        years.clear();
+        views.clear();
     }
 
     /**
-     * Sorts inventory by title (alphabetically).
+     * Sorts inventory by title (alphabetically). To list books in order
+     * without reordering the inventory, use {@link #getAllBooks(BookKey)}.
      */
     public void sortByTitle() {
         inventory.sort(Comparator.comparing(Book::getTitle));
+        reindexYears();
+        renumber();
     }
 
     /**
@@ -212,13 +535,47 @@ public class BookstoreArrayList {
      */
     public void sortByPrice() {
         inventory.sort(Comparator.comparingDouble(Book::getPrice));
+        reindexYears();
+        renumber();
     }
 
     /**
-     * Sorts inventory by year ascending.
+     * Sorts inventory by year ascending. The sort is stable, so each year
+     * keeps its relative order and the year index stays valid.
      */
     public void sortByYear() {
         inventory.sort(Comparator.comparingInt(Book::getYear));
+        renumber();
+    }
+
+    /**
+     * Returns the sequence stored with the next added book's ISBN key.
+     * Sequences increase along the inventory, since adds append and removals
+     * keep relative order; they are renumbered if they would overflow.
+     */
+    private int nextSequence() {
+        if (sequence == Integer.MAX_VALUE) renumber();
+        return sequence++;
+    }
+
+    /**
+     * Renumbers the ISBN-key sequences to follow the current inventory order.
+     */
+    private void renumber() {
+        for (int i = 0; i < inventory.size(); i++) {
+            isbnKeys.put(inventory.get(i).getIsbnKey(), i);
+        }
+        sequence = inventory.size();
+    }
+
+    /**
+     * Rebuilds the year index so each year follows the new inventory order.
+     */
+    private void reindexYears() {
+        years.clear();
+        for (Book book : inventory) {
+            years.add(book);
+        }
     }
 
     /**
@@ -227,14 +584,19 @@ public class BookstoreArrayList {
      * @return map with size, total_value, average_price, min_year, max_year, unique_authors
      */
     public Map<String, Object> getStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("size", size());
-        stats.put("total_value", inventoryValue());
-        stats.put("average_price", size() == 0 ? 0 : inventoryValue() / size());
-        stats.put("min_year", inventory.stream().mapToInt(Book::getYear).min().orElse(0));
-        stats.put("max_year", inventory.stream().mapToInt(Book::getYear).max().orElse(0));
-        stats.put("unique_authors", inventory.stream().map(Book::getAuthor).distinct().count());
-        return stats;
+        return stats.toMap();
+    }
+
+    /**
+     * Filters the inventory, in parallel when enabled and large enough.
+     */
+    private List<Book> filter(Predicate<Book> predicate) {
+        if (queryPool != null && inventory.size() >= parallelThreshold) {
+            return ParallelFilter.filter(queryPool, inventory, predicate);
+        }
+        return inventory.stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
     }
 
     /**
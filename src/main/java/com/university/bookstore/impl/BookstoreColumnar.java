@@ -0,0 +1,426 @@
+package com.university.bookstore.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+import com.university.bookstore.utils.LongIntHashMap;
+
+/**
+ * Columnar (structure-of-arrays) implementation of the BookstoreAPI.
+ *
+ * <p>Instead of one Book object per entry, each field lives in its own
+ * parallel array: {@code double[]} prices, {@code int[]} years,
+ * dictionary-encoded {@code int[]} title and author ids, and {@code long[]}
+ * ISBN keys with one bit per row recording whether the ISBN was spelled
+ * with 10 characters. The ISBN string is not kept; it is rebuilt from the
+ * key when a row is materialized. Numeric scans such as findByYear,
+ * findByPriceRange and inventoryValue are plain loops over primitive arrays,
+ * and title and author queries match each distinct string once before
+ * scanning the ids. Book objects are only created for results, through
+ * {@link Book#restore}, which skips the validation the added book already
+ * passed.</p>
+ *
+ * <p>Removal moves the last row into the vacated slot, so iteration order is
+ * insertion order only until the first removal.</p>
+ */
+public class BookstoreColumnar implements BookstoreAPI {
+
+    private double[] prices = new double[16];
+    private int[] years = new int[16];
+    private int[] authorIds = new int[16];
+    private int[] titleIds = new int[16];
+    private long[] isbnKeys = new long[16];
+    private boolean[] isbn10s = new boolean[16];
+    private int size;
+
+    private final LongIntHashMap rows = new LongIntHashMap();
+    private final Dictionary authors = new Dictionary();
+    private final Dictionary titles = new Dictionary();
+
+    /**
+     * Default constructor creates empty inventory.
+     */
+    public BookstoreColumnar() {
+    }
+
+    /**
+     * Constructor with initial collection of books.
+     *
+     * @param books initial books to add
+     */
+    public BookstoreColumnar(Collection<Book> books) {
+        if (books != null) {
+            for (Book book : books) {
+                add(book);
+            }
+        }
+    }
+
+    /**
+     * Adds a book to inventory if ISBN is unique.
+     *
+     * @param book Book to add
+     * @return true if added, false if null or duplicate ISBN
+     */
+    @Override
+    public boolean add(Book book) {
+        if (book == null || rows.containsKey(book.getIsbnKey())) return false;
+        if (size == prices.length) grow();
+
+        int row = size++;
+        prices[row] = book.getPrice();
+        years[row] = book.getYear();
+        authorIds[row] = authors.acquire(book.getAuthor());
+        titleIds[row] = titles.acquire(book.getTitle());
+        isbnKeys[row] = book.getIsbnKey();
+        isbn10s[row] = book.getIsbn().length() == 10;
+        rows.put(book.getIsbnKey(), row);
+        return true;
+    }
+
+    /**
+     * Removes a book by ISBN.
+     *
+     * @param isbn ISBN of book to remove
+     * @return true if removed, false if not found
+     */
+    @Override
+    public boolean removeByIsbn(String isbn) {
+        int row = rows.remove(Isbn.key(isbn));
+        if (row == LongIntHashMap.MISSING) return false;
+
+        authors.release(authorIds[row]);
+        titles.release(titleIds[row]);
+        int last = --size;
+        if (row != last) {
+            prices[row] = prices[last];
+            years[row] = years[last];
+            authorIds[row] = authorIds[last];
+            titleIds[row] = titleIds[last];
+            isbnKeys[row] = isbnKeys[last];
+            isbn10s[row] = isbn10s[last];
+            rows.put(isbnKeys[row], row);
+        }
+        return true;
+    }
+
+    /**
+     * Finds a book by ISBN.
+     *
+     * @param isbn ISBN to search
+     * @return matching Book or null
+     */
+    @Override
+    public Book findByISBN(String isbn) {
+        int row = rows.get(Isbn.key(isbn));
+        return row == LongIntHashMap.MISSING ? null : materialize(row);
+    }
+
+    /**
+     * Finds books containing title substring. The query is matched against
+     * each distinct title once, then the title id column is scanned.
+     *
+     * @param title query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByTitle(String title) {
+        if (title == null) return Collections.emptyList();
+        return scan(titleIds, titles.matching(title.toLowerCase()));
+    }
+
+    /**
+     * Finds books containing author substring. The query is matched against
+     * each distinct author once, then the author id column is scanned.
+     *
+     * @param author query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByAuthor(String author) {
+        if (author == null) return Collections.emptyList();
+        return scan(authorIds, authors.matching(author.toLowerCase()));
+    }
+
+    /**
+     * Finds books within price range.
+     *
+     * @param min minimum price
+     * @param max maximum price
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) throw new IllegalArgumentException("Invalid price range");
+        List<Book> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (prices[row] >= min && prices[row] <= max) result.add(materialize(row));
+        }
+        return result;
+    }
+
+    /**
+     * Finds books published in a given year.
+     *
+     * @param year year
+     * @return list of matching books
+     */
+    public List<Book> findByYear(int year) {
+        List<Book> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (years[row] == year) result.add(materialize(row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of books.
+     *
+     * @return inventory size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns total value of inventory, summed with Neumaier compensation
+     * like {@link InventoryStats} so the result does not depend on row order.
+     *
+     * @return sum of prices
+     */
+    @Override
+    public double inventoryValue() {
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (int row = 0; row < size; row++) {
+            double price = prices[row];
+            double next = sum + price;
+            if (sum >= price) {
+                compensation += (sum - next) + price;
+            } else {
+                compensation += (price - next) + sum;
+            }
+            sum = next;
+        }
+        return sum + compensation;
+    }
+
+    /**
+     * Returns the most expensive book.
+     *
+     * @return book with highest price
+     */
+    @Override
+    public Book getMostExpensive() {
+        if (size == 0) return null;
+        int best = 0;
+        for (int row = 1; row < size; row++) {
+            if (prices[row] > prices[best]) best = row;
+        }
+        return materialize(best);
+    }
+
+    /**
+     * Returns the most recent book.
+     *
+     * @return book with latest year
+     */
+    @Override
+    public Book getMostRecent() {
+        if (size == 0) return null;
+        int best = 0;
+        for (int row = 1; row < size; row++) {
+            if (years[row] > years[best]) best = row;
+        }
+        return materialize(best);
+    }
+
+    /**
+     * Returns snapshot of inventory as array.
+     *
+     * @return array of books
+     */
+    @Override
+    public Book[] snapshotArray() {
+        Book[] books = new Book[size];
+        for (int row = 0; row < size; row++) {
+            books[row] = materialize(row);
+        }
+        return books;
+    }
+
+    /**
+     * Returns copy of all books.
+     *
+     * @return list of books
+     */
+    @Override
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(Arrays.asList(snapshotArray()));
+    }
+
+    /**
+     * Clears the inventory and the title and author dictionaries.
+     */
+    public void clear() {
+        size = 0;
+        rows.clear();
+        authors.clear();
+        titles.clear();
+    }
+
+    /**
+     * Returns statistics about inventory.
+     *
+     * @return map with size, total_value, average_price, min_year, max_year, unique_authors
+     */
+    public Map<String, Object> getStatistics() {
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        for (int row = 0; row < size; row++) {
+            minYear = Math.min(minYear, years[row]);
+            maxYear = Math.max(maxYear, years[row]);
+        }
+        double total = inventoryValue();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size);
+        stats.put("total_value", total);
+        stats.put("average_price", size == 0 ? 0 : total / size);
+        stats.put("min_year", size == 0 ? 0 : minYear);
+        stats.put("max_year", size == 0 ? 0 : maxYear);
+        stats.put("unique_authors", (long) authors.distinct());
+        return stats;
+    }
+
+    /**
+     * String summary of inventory.
+     *
+     * @return formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("BookstoreColumnar[size=%d, value=%.2f]", size(), inventoryValue());
+    }
+
+    /**
+     * Builds a Book from one row of the columns.
+     */
+    private Book materialize(int row) {
+        return Book.restore(isbnKeys[row], isbn10s[row], titles.name(titleIds[row]),
+                authors.name(authorIds[row]), prices[row], years[row]);
+    }
+
+    /**
+     * Materializes the rows whose id in {@code ids} is marked in {@code matching}.
+     */
+    private List<Book> scan(int[] ids, boolean[] matching) {
+        List<Book> result = new ArrayList<>();
+        if (matching == null) return result;
+        for (int row = 0; row < size; row++) {
+            if (matching[ids[row]]) result.add(materialize(row));
+        }
+        return result;
+    }
+
+    private void grow() {
+        int capacity = prices.length * 2;
+        prices = Arrays.copyOf(prices, capacity);
+        years = Arrays.copyOf(years, capacity);
+        authorIds = Arrays.copyOf(authorIds, capacity);
+        titleIds = Arrays.copyOf(titleIds, capacity);
+        isbnKeys = Arrays.copyOf(isbnKeys, capacity);
+        isbn10s = Arrays.copyOf(isbn10s, capacity);
+    }
+
+    /**
+     * Distinct strings of one column, each with a small id and a count of the
+     * rows using it. An id whose count drops to zero is freed and reused, so
+     * the dictionary only holds strings still in the inventory.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private String[] names = new String[16];
+        private int[] refs = new int[16];
+        private int[] free = new int[16];
+        private int freeCount;
+        private int next;
+
+        /**
+         * Returns the id of a string, assigning one if new, and counts a row using it.
+         */
+        int acquire(String name) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                if (freeCount > 0) {
+                    id = free[--freeCount];
+                } else {
+                    id = next++;
+                    if (id == names.length) {
+                        names = Arrays.copyOf(names, id * 2);
+                        refs = Arrays.copyOf(refs, id * 2);
+                        free = Arrays.copyOf(free, id * 2);
+                    }
+                }
+                names[id] = name;
+                ids.put(name, id);
+            }
+            refs[id]++;
+            return id;
+        }
+
+        /**
+         * Uncounts a row using an id, freeing the id if it was the last.
+         */
+        void release(int id) {
+            if (--refs[id] == 0) {
+                ids.remove(names[id]);
+                names[id] = null;
+                free[freeCount++] = id;
+            }
+        }
+
+        String name(int id) {
+            return names[id];
+        }
+
+        int distinct() {
+            return ids.size();
+        }
+
+        /**
+         * Marks the ids whose string contains a lowercase query.
+         *
+         * @return marks indexed by id, or null if nothing matches
+         */
+        boolean[] matching(String query) {
+            boolean[] matching = new boolean[next];
+            boolean any = false;
+            for (int id = 0; id < next; id++) {
+                String name = names[id];
+                if (name != null && name.toLowerCase().contains(query)) {
+                    matching[id] = true;
+                    any = true;
+                }
+            }
+            return any ? matching : null;
+        }
+
+        void clear() {
+            ids.clear();
+            Arrays.fill(names, 0, next, null);
+            Arrays.fill(refs, 0, next, 0);
+            freeCount = 0;
+            next = 0;
+        }
+    }
+}
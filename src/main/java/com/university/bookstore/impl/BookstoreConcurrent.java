@@ -0,0 +1,316 @@
+package com.university.bookstore.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+
+/**
+ * Thread-safe implementation of the BookstoreAPI for sharing one inventory
+ * across request threads.
+ *
+ * <p>Reads never lock. findByISBN and size go to a ConcurrentHashMap keyed
+ * by ISBN; scans and copies read an immutable array snapshot that is rebuilt
+ * lazily by the first reader after a mutation. Writes take one of a fixed set
+ * of striped locks chosen by ISBN, so the duplicate check and the insert are
+ * atomic per ISBN while writers of different ISBNs rarely contend.</p>
+ *
+ * <p>Books are scanned in insertion order, tracked by a sequence number in a
+ * ConcurrentSkipListMap.</p>
+ */
+public class BookstoreConcurrent implements BookstoreAPI {
+
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<Long, Entry> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Book> order = new ConcurrentSkipListMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0, new Book[0]));
+
+    /**
+     * Default constructor creates empty inventory.
+     */
+    public BookstoreConcurrent() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Constructor with initial collection of books.
+     *
+     * @param books initial books to add
+     */
+    public BookstoreConcurrent(Collection<Book> books) {
+        this();
+        if (books != null) {
+            for (Book book : books) {
+                add(book);
+            }
+        }
+    }
+
+    /**
+     * Adds a book to inventory if ISBN is unique.
+     *
+     * @param book Book to add
+     * @return true if added, false if null or duplicate ISBN
+     */
+    @Override
+    public boolean add(Book book) {
+        if (book == null) return false;
+        long key = book.getIsbnKey();
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (index.containsKey(key)) return false;
+            long seq = sequence.incrementAndGet();
+            order.put(seq, book);
+            index.put(key, new Entry(seq, book));
+        } finally {
+            lock.unlock();
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes a book by ISBN.
+     *
+     * @param isbn ISBN of book to remove
+     * @return true if removed, false if not found
+     */
+    @Override
+    public boolean removeByIsbn(String isbn) {
+        long key = Isbn.key(isbn);
+        if (key == Isbn.NO_KEY) return false;
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            Entry entry = index.remove(key);
+            if (entry == null) return false;
+            order.remove(entry.seq);
+        } finally {
+            lock.unlock();
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Finds a book by ISBN without locking.
+     *
+     * @param isbn ISBN to search
+     * @return matching Book or null
+     */
+    @Override
+    public Book findByISBN(String isbn) {
+        long key = Isbn.key(isbn);
+        if (key == Isbn.NO_KEY) return null;
+        Entry entry = index.get(key);
+        return entry == null ? null : entry.book;
+    }
+
+    /**
+     * Finds books containing title substring.
+     *
+     * @param title query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByTitle(String title) {
+        if (title == null) return Collections.emptyList();
+        String query = title.toLowerCase();
+        List<Book> result = new ArrayList<>();
+        for (Book book : snapshot().books) {
+            if (book.getTitle().toLowerCase().contains(query)) result.add(book);
+        }
+        return result;
+    }
+
+    /**
+     * Finds books containing author substring.
+     *
+     * @param author query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByAuthor(String author) {
+        if (author == null) return Collections.emptyList();
+        String query = author.toLowerCase();
+        List<Book> result = new ArrayList<>();
+        for (Book book : snapshot().books) {
+            if (book.getAuthor().toLowerCase().contains(query)) result.add(book);
+        }
+        return result;
+    }
+
+    /**
+     * Finds books within price range.
+     *
+     * @param min minimum price
+     * @param max maximum price
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) throw new IllegalArgumentException("Invalid price range");
+        List<Book> result = new ArrayList<>();
+        for (Book book : snapshot().books) {
+            if (book.getPrice() >= min && book.getPrice() <= max) result.add(book);
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of books.
+     *
+     * @return inventory size
+     */
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns total value of inventory.
+     *
+     * @return sum of prices
+     */
+    @Override
+    public double inventoryValue() {
+        return Arrays.stream(snapshot().books).mapToDouble(Book::getPrice).sum();
+    }
+
+    /**
+     * Returns the most expensive book.
+     *
+     * @return book with highest price
+     */
+    @Override
+    public Book getMostExpensive() {
+        Book best = null;
+        for (Book book : snapshot().books) {
+            if (best == null || book.getPrice() > best.getPrice()) best = book;
+        }
+        return best;
+    }
+
+    /**
+     * Returns the most recent book.
+     *
+     * @return book with latest year
+     */
+    @Override
+    public Book getMostRecent() {
+        Book best = null;
+        for (Book book : snapshot().books) {
+            if (best == null || book.getYear() > best.getYear()) best = book;
+        }
+        return best;
+    }
+
+    /**
+     * Returns snapshot of inventory as array.
+     *
+     * @return array of books
+     */
+    @Override
+    public Book[] snapshotArray() {
+        return snapshot().books.clone();
+    }
+
+    /**
+     * Returns copy of all books.
+     *
+     * @return list of books
+     */
+    @Override
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(Arrays.asList(snapshot().books));
+    }
+
+    /**
+     * Clears the inventory. Holds every stripe so no add or remove interleaves.
+     */
+    public void clear() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            index.clear();
+            order.clear();
+        } finally {
+            for (ReentrantLock lock : locks) {
+                lock.unlock();
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * String summary of inventory.
+     *
+     * @return formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("BookstoreConcurrent[size=%d, value=%.2f]", size(), inventoryValue());
+    }
+
+    /**
+     * Returns a snapshot at least as new as the last completed mutation,
+     * rebuilding it when a write has happened since it was taken.
+     */
+    private Snapshot snapshot() {
+        long current = version.get();
+        Snapshot cached = snapshot.get();
+        if (cached.version >= current) return cached;
+
+        Snapshot fresh = new Snapshot(current, order.values().toArray(new Book[0]));
+        return snapshot.accumulateAndGet(fresh, (old, next) -> old.version >= next.version ? old : next);
+    }
+
+    private ReentrantLock lockFor(long isbnKey) {
+        int h = Long.hashCode(isbnKey);
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * ISBN index entry: the book and its insertion sequence number.
+     */
+    private static final class Entry {
+        private final long seq;
+        private final Book book;
+
+        Entry(long seq, Book book) {
+            this.seq = seq;
+            this.book = book;
+        }
+    }
+
+    /**
+     * Immutable view of the inventory as of one version.
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final Book[] books;
+
+        Snapshot(long version, Book[] books) {
+            this.version = version;
+            this.books = books;
+        }
+    }
+}
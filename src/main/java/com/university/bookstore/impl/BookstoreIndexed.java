@@ -0,0 +1,598 @@
+package com.university.bookstore.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.api.Query;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+import com.university.bookstore.utils.LongIntHashMap;
+import com.university.bookstore.utils.YearIndex;
+
+/**
+ * Hash-indexed implementation of the BookstoreAPI.
+ *
+ * <p>Books are stored in an ArrayList like {@link BookstoreArrayList}, with a
+ * primitive {@link LongIntHashMap} from ISBN key to the book's position in
+ * that list. The map makes add, findByISBN and removeByIsbn O(1) instead of
+ * a linear scan, so loading N books costs O(N) rather than O(N^2).</p>
+ *
+ * <p>A price index ordered by price then ISBN answers findByPriceRange in
+ * O(log N + k), returning matches in ascending price order, and
+ * getMostExpensive in O(log N). Price topK and bottomK walk the same index
+ * in O(K), and paginated price queries resume from a key in that index.</p>
+ *
+ * <p>Titles and authors are lowercased once on add into trigram indexes, so
+ * findByTitle and findByAuthor only verify books that share every trigram of
+ * the query. Results keep the inventory order.</p>
+ *
+ * <p>A {@link YearIndex} answers findByYear and year-range queries from
+ * per-year buckets and counts them from prefix sums.</p>
+ *
+ * <p>{@link #getAllBooks(BookKey)} and its paginated variant read sorted
+ * views that are built on first use and then kept in order on every add and
+ * remove, so listing by price, year or title never re-sorts.</p>
+ *
+ * <p>Composed queries run through a small cost-based planner that picks a
+ * full scan or the most selective of these indexes (see
+ * {@link #query(Query)}).</p>
+ *
+ * <p>Size, total value, year range and author counts are kept as running
+ * aggregates, so getStatistics, inventoryValue and toString are O(1).</p>
+ *
+ * <p>Removal moves the last book into the vacated slot, so iteration order is
+ * insertion order only until the first removal. All collection returns are
+ * defensive copies to maintain encapsulation.</p>
+ */
+public class BookstoreIndexed implements BookstoreAPI {
+
+    /**
+     * Relative query planner costs per book, measured with JMH: a scan whose
+     * numeric conditions reject the book, a scan that reaches the text
+     * conditions, a price index entry, a year bucket entry, and a trigram
+     * index candidate.
+     */
+    private static final int SCAN_COST = 1;
+    private static final int TEXT_SCAN_COST = 6;
+    private static final int RANGE_COST = 3;
+    private static final int YEAR_COST = 1;
+    private static final int INDEX_COST = 15;
+
+    private final List<Book> inventory;
+    private final LongIntHashMap positions;
+    private final NavigableMap<PriceKey, Book> byPrice;
+    private final SubstringIndex titles;
+    private final SubstringIndex authors;
+    private final YearIndex years = new YearIndex();
+    private final SortedViews views = new SortedViews();
+    private final InventoryStats stats = new InventoryStats();
+
+    /**
+     * Default constructor creates empty inventory.
+     */
+    public BookstoreIndexed() {
+        this.inventory = new ArrayList<>();
+        this.positions = new LongIntHashMap();
+        this.byPrice = new TreeMap<>();
+        this.titles = new SubstringIndex(Book::getTitle);
+        this.authors = new SubstringIndex(Book::getAuthor);
+    }
+
+    /**
+     * Constructor with initial collection of books.
+     *
+     * @param books initial books to add
+     */
+    public BookstoreIndexed(Collection<Book> books) {
+        this();
+        if (books != null) {
+            for (Book book : books) {
+                add(book);
+            }
+        }
+    }
+
+    /**
+     * Adds a book to inventory if ISBN is unique.
+     *
+     * @param book Book to add
+     * @return true if added, false if null or duplicate ISBN
+     */
+    @Override
+    public boolean add(Book book) {
+        if (book == null || positions.containsKey(book.getIsbnKey())) return false;
+        positions.put(book.getIsbnKey(), inventory.size());
+        byPrice.put(new PriceKey(book.getPrice(), book.getIsbnKey()), book);
+        titles.add(book);
+        authors.add(book);
+        years.add(book);
+        views.add(book);
+        stats.add(book);
+        return inventory.add(book);
+    }
+
+    /**
+     * Removes a book by ISBN.
+     *
+     * @param isbn ISBN of book to remove
+     * @return true if removed, false if not found
+     */
+    @Override
+    public boolean removeByIsbn(String isbn) {
+        int position = positions.remove(Isbn.key(isbn));
+        if (position == LongIntHashMap.MISSING) return false;
+
+        Book removed = inventory.get(position);
+        byPrice.remove(new PriceKey(removed.getPrice(), removed.getIsbnKey()));
+        titles.remove(removed);
+        authors.remove(removed);
+        years.remove(removed);
+        views.remove(removed);
+        stats.remove(removed);
+        Book last = inventory.remove(inventory.size() - 1);
+        if (position < inventory.size()) {
+            inventory.set(position, last);
+            positions.put(last.getIsbnKey(), position);
+        }
+        return true;
+    }
+
+    /**
+     * Finds a book by ISBN.
+     *
+     * @param isbn ISBN to search
+     * @return matching Book or null
+     */
+    @Override
+    public Book findByISBN(String isbn) {
+        int position = positions.get(Isbn.key(isbn));
+        return position == LongIntHashMap.MISSING ? null : inventory.get(position);
+    }
+
+    /**
+     * Finds books containing title substring.
+     *
+     * @param title query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByTitle(String title) {
+        if (title == null) return Collections.emptyList();
+        return inInventoryOrder(titles.search(title));
+    }
+
+    /**
+     * Finds books containing author substring.
+     *
+     * @param author query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByAuthor(String author) {
+        if (author == null) return Collections.emptyList();
+        return inInventoryOrder(authors.search(author));
+    }
+
+    /**
+     * Finds books within price range, cheapest first.
+     *
+     * @param min minimum price
+     * @param max maximum price
+     * @return list of matching books in ascending price order
+     */
+    @Override
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) throw new IllegalArgumentException("Invalid price range");
+        return new ArrayList<>(byPrice.subMap(
+                PriceKey.lowest(min), true, PriceKey.highest(max), true).values());
+    }
+
+    /**
+     * Returns one page of findByPriceRange results, cheapest first. The
+     * cursor is the price index key of the first book on the next page, so
+     * each page is an O(log N + limit) walk of the index and books added or
+     * removed between pages are neither skipped nor repeated.
+     *
+     * @param min minimum price
+     * @param max maximum price
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of matching books in ascending price order
+     */
+    @Override
+    public Page<Book> findByPriceRange(double min, double max, String cursor, int limit) {
+        if (min > max) throw new IllegalArgumentException("Invalid price range");
+        Page.checkLimit(limit);
+        PriceKey from = PriceKey.lowest(min);
+        PriceKey to = PriceKey.highest(max);
+        if (cursor != null) {
+            long[] state = Page.parseCursor(cursor, 2);
+            PriceKey resume = new PriceKey(Double.longBitsToDouble(state[0]), state[1]);
+            if (resume.compareTo(to) > 0) return new Page<>(new ArrayList<>(), null);
+            if (resume.compareTo(from) > 0) from = resume;
+        }
+
+        List<Book> items = new ArrayList<>(Math.min(limit, 64));
+        for (Map.Entry<PriceKey, Book> entry : byPrice.subMap(from, true, to, true).entrySet()) {
+            if (items.size() == limit) {
+                PriceKey next = entry.getKey();
+                return new Page<>(items, Page.cursor(Double.doubleToLongBits(next.price), next.isbnKey));
+            }
+            items.add(entry.getValue());
+        }
+        return new Page<>(items, null);
+    }
+
+    /**
+     * Runs a composed query from the cheapest access path.
+     *
+     * <p>The planner compares rough per-book costs: a full scan checks every
+     * book, cheaply when a numeric condition rejects most of them first; a
+     * trigram index yields at most its shortest posting list for the title
+     * or author condition, at a higher cost per candidate; the year index
+     * yields exactly the books in the year range, counted from its prefix
+     * sums; the price index yields exactly the books in the range, counted up
+     * to the cost of the best plan so far. Every condition is then checked on the chosen
+     * candidates in one pass. Index candidates are ranked by their inventory
+     * position, so results, and the books a limit keeps, are the same as a
+     * full scan would return whichever plan ran.</p>
+     *
+     * @param query conditions, ordering and limit
+     * @return matching books
+     */
+    @Override
+    public List<Book> query(Query query) {
+        boolean numeric = query.hasPriceRange() || query.hasYearRange();
+        long best = (long) inventory.size() * (numeric ? SCAN_COST : TEXT_SCAN_COST);
+        SubstringIndex textIndex = null;
+        String text = null;
+        if (query.getTitleContains() != null) {
+            long cost = (long) titles.estimate(query.getTitleContains()) * INDEX_COST;
+            if (cost < best) {
+                best = cost;
+                textIndex = titles;
+                text = query.getTitleContains();
+            }
+        }
+        if (query.getAuthorContains() != null) {
+            long cost = (long) authors.estimate(query.getAuthorContains()) * INDEX_COST;
+            if (cost < best) {
+                best = cost;
+                textIndex = authors;
+                text = query.getAuthorContains();
+            }
+        }
+        boolean yearPlan = false;
+        if (query.hasYearRange()) {
+            long cost = (long) years.countBetween(query.getMinYear(), query.getMaxYear()) * YEAR_COST;
+            if (cost < best) {
+                best = cost;
+                yearPlan = true;
+            }
+        }
+        if (query.hasPriceRange()) {
+            Collection<Book> range = byPrice.subMap(PriceKey.lowest(query.getMinPrice()), true,
+                    PriceKey.highest(query.getMaxPrice()), true).values();
+            int bound = (int) Math.min(Integer.MAX_VALUE, best / RANGE_COST);
+            if (countBelow(range, bound) < bound) return query.evaluate(range, this::position);
+        }
+        if (yearPlan) return query.evaluate(years.findBetween(query.getMinYear(), query.getMaxYear()), this::position);
+        if (textIndex != null) return query.evaluate(textIndex.search(text), this::position);
+        return query.evaluate(inventory);
+    }
+
+    /**
+     * Returns a book's slot in the inventory, its place in iteration order.
+     */
+    private int position(Book book) {
+        return positions.get(book.getIsbnKey());
+    }
+
+    /**
+     * Returns the k books with the largest key. Price is answered in O(K)
+     * from the price index, with ties going to the highest ISBN; other keys
+     * use the bounded heap.
+     */
+    @Override
+    public List<Book> topK(BookKey key, int k, Predicate<Book> filter) {
+        if (key != BookKey.PRICE) return BookstoreAPI.super.topK(key, k, filter);
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        return firstK(byPrice.descendingMap().values(), k, filter);
+    }
+
+    /**
+     * Returns the k books with the smallest key. Price is answered in O(K)
+     * from the price index, with ties going to the lowest ISBN; other keys
+     * use the bounded heap.
+     */
+    @Override
+    public List<Book> bottomK(BookKey key, int k, Predicate<Book> filter) {
+        if (key != BookKey.PRICE) return BookstoreAPI.super.bottomK(key, k, filter);
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        return firstK(byPrice.values(), k, filter);
+    }
+
+    /**
+     * Finds books published in a given year from the year index.
+     *
+     * @param year year
+     * @return list of matching books
+     */
+    public List<Book> findByYear(int year) {
+        return inInventoryOrder(years.findByYear(year));
+    }
+
+    /**
+     * Finds books published from {@code from} to {@code to} inclusive by
+     * reading consecutive year buckets.
+     *
+     * @param from first year
+     * @param to last year
+     * @return matching books by ascending year, in inventory order within a year
+     */
+    public List<Book> findByYearRange(int from, int to) {
+        List<Book> hits = years.findBetween(from, to);
+        hits.sort(Comparator.comparingInt(Book::getYear)
+                .thenComparingInt(book -> positions.get(book.getIsbnKey())));
+        return hits;
+    }
+
+    /**
+     * Counts books published from {@code from} to {@code to} inclusive in
+     * O(1) from the year index's prefix sums.
+     *
+     * @param from first year
+     * @param to last year
+     * @return book count
+     */
+    public int countByYearRange(int from, int to) {
+        return years.countBetween(from, to);
+    }
+
+    /**
+     * Returns number of books.
+     *
+     * @return inventory size
+     */
+    @Override
+    public int size() {
+        return inventory.size();
+    }
+
+    /**
+     * Returns total value of inventory.
+     *
+     * @return sum of prices
+     */
+    @Override
+    public double inventoryValue() {
+        return stats.totalValue();
+    }
+
+    /**
+     * Returns the most expensive book. Ties go to the highest ISBN.
+     *
+     * @return book with highest price
+     */
+    @Override
+    public Book getMostExpensive() {
+        Map.Entry<PriceKey, Book> last = byPrice.lastEntry();
+        return last == null ? null : last.getValue();
+    }
+
+    /**
+     * Returns the most recent book.
+     *
+     * @return book with latest year
+     */
+    @Override
+    public Book getMostRecent() {
+        return inventory.stream()
+                .max(Comparator.comparingInt(Book::getYear))
+                .orElse(null);
+    }
+
+    /**
+     * Returns snapshot of inventory as array.
+     *
+     * @return array of books
+     */
+    @Override
+    public Book[] snapshotArray() {
+        return inventory.toArray(new Book[0]);
+    }
+
+    /**
+     * Returns copy of all books.
+     *
+     * @return list of books
+     */
+    @Override
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(inventory);
+    }
+
+    /**
+     * Returns one page of the inventory, copying only that page.
+     *
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books
+     */
+    @Override
+    public Page<Book> getAllBooks(String cursor, int limit) {
+        Page.checkLimit(limit);
+        int from = Math.min(Page.parsePosition(cursor), inventory.size());
+        int to = (int) Math.min((long) from + limit, inventory.size());
+        return new Page<>(new ArrayList<>(inventory.subList(from, to)),
+                to < inventory.size() ? Page.cursor(to) : null);
+    }
+
+    /**
+     * Returns every book in key order, copied from the maintained sorted
+     * view for that key.
+     *
+     * @param key attribute to order by
+     * @return sorted copy of the inventory
+     */
+    @Override
+    public List<Book> getAllBooks(BookKey key) {
+        return views.sorted(key, inventory);
+    }
+
+    /**
+     * Returns one page of the sorted view for a key, copying only that page.
+     * Books added or removed between pages shift later positions.
+     *
+     * @param key attribute to order by
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books in key order
+     */
+    @Override
+    public Page<Book> getAllBooks(BookKey key, String cursor, int limit) {
+        return views.page(key, inventory, cursor, limit);
+    }
+
+    /**
+     * Clears the inventory and its indexes.
+     */
+    public void clear() {
+        inventory.clear();
+        positions.clear();
+        byPrice.clear();
+        titles.clear();
+        authors.clear();
+        years.clear();
+        views.clear();
+        stats.clear();
+    }
+
+    /**
+     * Sorts inventory by title (alphabetically). To list books in order
+     * without reordering the inventory, use {@link #getAllBooks(BookKey)}.
+     */
+    public void sortByTitle() {
+        inventory.sort(Comparator.comparing(Book::getTitle));
+        reindexPositions();
+    }
+
+    /**
+     * Sorts inventory by price ascending.
+     */
+    public void sortByPrice() {
+        inventory.sort(Comparator.comparingDouble(Book::getPrice));
+        reindexPositions();
+    }
+
+    /**
+     * Sorts inventory by year ascending.
+     */
+    public void sortByYear() {
+        inventory.sort(Comparator.comparingInt(Book::getYear));
+        reindexPositions();
+    }
+
+    /**
+     * Returns statistics about inventory.
+     *
+     * @return map with size, total_value, average_price, min_year, max_year, unique_authors
+     */
+    public Map<String, Object> getStatistics() {
+        return stats.toMap();
+    }
+
+    /**
+     * Takes the first k matching books from an index in its order. With a
+     * filter this walks the index until k books match.
+     */
+    private static List<Book> firstK(Collection<Book> ordered, int k, Predicate<Book> filter) {
+        List<Book> result = new ArrayList<>(Math.min(k, ordered.size()));
+        for (Book book : ordered) {
+            if (result.size() == k) break;
+            if (filter == null || filter.test(book)) result.add(book);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the books in {@code books}, stopping once the count reaches
+     * {@code bound}.
+     */
+    private static int countBelow(Collection<Book> books, int bound) {
+        int count = 0;
+        for (Iterator<Book> it = books.iterator(); count < bound && it.hasNext(); it.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Sorts index hits by their position in the inventory list.
+     */
+    private List<Book> inInventoryOrder(List<Book> hits) {
+        hits.sort(Comparator.comparingInt(book -> positions.get(book.getIsbnKey())));
+        return hits;
+    }
+
+    /**
+     * Rebuilds the ISBN-to-position map after the list has been reordered.
+     */
+    private void reindexPositions() {
+        for (int i = 0; i < inventory.size(); i++) {
+            positions.put(inventory.get(i).getIsbnKey(), i);
+        }
+    }
+
+    /**
+     * Key of the price index: price first, then ISBN key to keep keys unique.
+     * ISBN keys are never negative, so -1 and Long.MAX_VALUE bound every key.
+     * Prices are normalised with {@code + 0.0}, which turns -0.0 into 0.0:
+     * Double.compare orders -0.0 below 0.0, while the linear stores compare
+     * them as equal, so a -0.0 book would otherwise fall outside [0.0, x].
+     */
+    private static final class PriceKey implements Comparable<PriceKey> {
+        private final double price;
+        private final long isbnKey;
+
+        PriceKey(double price, long isbnKey) {
+            this.price = price + 0.0;
+            this.isbnKey = isbnKey;
+        }
+
+        static PriceKey lowest(double price) {
+            return new PriceKey(price, -1L);
+        }
+
+        static PriceKey highest(double price) {
+            return new PriceKey(price, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            int byPrice = Double.compare(price, other.price);
+            return byPrice != 0 ? byPrice : Long.compare(isbnKey, other.isbnKey);
+        }
+    }
+
+    /**
+     * String summary of inventory.
+     *
+     * @return formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("BookstoreIndexed[size=%d, value=%.2f]", size(), inventoryValue());
+    }
+}
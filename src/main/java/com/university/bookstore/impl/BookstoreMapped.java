@@ -0,0 +1,526 @@
+package com.university.bookstore.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+
+/**
+ * Off-heap implementation of the BookstoreAPI backed by memory-mapped files.
+ *
+ * <p>A catalog directory holds three files, each mapped with
+ * {@link FileChannel#map}:</p>
+ * <ul>
+ *   <li>{@code records.bin} - one fixed-width 40-byte record per book: price,
+ *   year, a live flag, the ISBN key (see {@link Isbn#key(CharSequence)}) and
+ *   the int offsets of its title, author and ISBN</li>
+ *   <li>{@code strings.bin} - the string heap, length-prefixed UTF-8</li>
+ *   <li>{@code index.bin} - an open-addressing hash table of 12-byte slots,
+ *   each an ISBN key and its record number, probed linearly</li>
+ * </ul>
+ *
+ * <p>Lookups, duplicate checks and index rebuilds compare the stored long
+ * keys, so they neither read the string heap nor allocate.</p>
+ *
+ * <p>Opening an existing catalog only maps the files, so startup does not
+ * parse anything, and the Java heap holds a handful of fields whatever the
+ * catalog size. Book objects are created only for results. Removal clears
+ * the record's live flag; the space is reclaimed by {@link #clear()} only.
+ * Each file is limited to 2 GB by the ByteBuffer index range. This class is
+ * not thread-safe.</p>
+ */
+public class BookstoreMapped implements BookstoreAPI, Closeable {
+
+    private static final int MAGIC = 0x424B5354;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER = 16;
+
+    private static final int RECORD_SIZE = 40;
+    private static final int PRICE = 0;
+    private static final int YEAR = 8;
+    private static final int FLAGS = 12;
+    private static final int ISBN_KEY = 16;
+    private static final int TITLE = 24;
+    private static final int AUTHOR = 28;
+    private static final int ISBN = 32;
+    private static final int LIVE = 1;
+
+    private static final int SLOT_SIZE = 12;
+    private static final int SLOT_KEY = 0;
+    private static final int SLOT_ROW = 8;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+    private static final int INITIAL_SLOTS = 1024;
+
+    private final FileChannel recordChannel;
+    private final FileChannel stringChannel;
+    private final FileChannel indexChannel;
+    private MappedByteBuffer records;
+    private MappedByteBuffer strings;
+    private MappedByteBuffer index;
+
+    private int rowCount;
+    private int liveCount;
+    private int stringEnd;
+    private int slots;
+    private int usedSlots;
+
+    /**
+     * Opens the catalog in {@code directory}, creating it if it does not exist.
+     *
+     * @param directory catalog directory
+     * @throws IOException if the files cannot be opened or are not a catalog
+     */
+    public BookstoreMapped(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        recordChannel = open(directory.resolve("records.bin"));
+        stringChannel = open(directory.resolve("strings.bin"));
+        indexChannel = open(directory.resolve("index.bin"));
+
+        try {
+            boolean fresh = recordChannel.size() == 0;
+            records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(recordChannel.size(), HEADER + 1024L * RECORD_SIZE));
+            strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(stringChannel.size(), HEADER + 64 * 1024L));
+            if (fresh) {
+                writeHeader(records);
+                writeHeader(strings);
+                stringEnd = HEADER;
+                saveCounters();
+            } else {
+                checkHeader(records, "records.bin");
+                checkHeader(strings, "strings.bin");
+                rowCount = records.getInt(8);
+                liveCount = records.getInt(12);
+                stringEnd = strings.getInt(8);
+            }
+
+            if (!fresh && indexChannel.size() >= HEADER) {
+                index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+                checkHeader(index, "index.bin");
+                slots = index.getInt(8);
+                usedSlots = index.getInt(12);
+            } else {
+                rebuildIndex(INITIAL_SLOTS);
+            }
+        } catch (IOException | RuntimeException e) {
+            recordChannel.close();
+            stringChannel.close();
+            indexChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a book to inventory if ISBN is unique.
+     *
+     * @param book Book to add
+     * @return true if added, false if null or duplicate ISBN
+     */
+    @Override
+    public boolean add(Book book) {
+        if (book == null) return false;
+        long key = book.getIsbnKey();
+        if (findSlot(key) >= 0) return false;
+
+        if ((usedSlots + 1) * 10L > slots * 6L) rebuildIndex(Math.max(INITIAL_SLOTS, liveCount * 4));
+        ensureRecordCapacity(rowCount + 1);
+
+        int row = rowCount++;
+        int base = HEADER + row * RECORD_SIZE;
+        records.putDouble(base + PRICE, book.getPrice());
+        records.putInt(base + YEAR, book.getYear());
+        records.putInt(base + FLAGS, LIVE);
+        records.putLong(base + ISBN_KEY, key);
+        records.putInt(base + TITLE, writeString(book.getTitle().getBytes(StandardCharsets.UTF_8)));
+        records.putInt(base + AUTHOR, writeString(book.getAuthor().getBytes(StandardCharsets.UTF_8)));
+        records.putInt(base + ISBN, writeString(book.getIsbn().getBytes(StandardCharsets.UTF_8)));
+        insertSlot(key, row);
+        liveCount++;
+        saveCounters();
+        return true;
+    }
+
+    /**
+     * Removes a book by ISBN.
+     *
+     * @param isbn ISBN of book to remove
+     * @return true if removed, false if not found
+     */
+    @Override
+    public boolean removeByIsbn(String isbn) {
+        long key = Isbn.key(isbn);
+        if (key == Isbn.NO_KEY) return false;
+        int slot = findSlot(key);
+        if (slot < 0) return false;
+
+        int row = index.getInt(slotOffset(slot) + SLOT_ROW) - 1;
+        records.putInt(HEADER + row * RECORD_SIZE + FLAGS, 0);
+        index.putInt(slotOffset(slot) + SLOT_ROW, DELETED);
+        liveCount--;
+        saveCounters();
+        return true;
+    }
+
+    /**
+     * Finds a book by ISBN through the mapped hash index.
+     *
+     * @param isbn ISBN to search
+     * @return matching Book or null
+     */
+    @Override
+    public Book findByISBN(String isbn) {
+        long key = Isbn.key(isbn);
+        if (key == Isbn.NO_KEY) return null;
+        int slot = findSlot(key);
+        return slot < 0 ? null : materialize(index.getInt(slotOffset(slot) + SLOT_ROW) - 1);
+    }
+
+    /**
+     * Finds books containing title substring.
+     *
+     * @param title query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByTitle(String title) {
+        if (title == null) return Collections.emptyList();
+        String query = title.toLowerCase();
+        List<Book> result = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row) && readString(field(row, TITLE)).toLowerCase().contains(query)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds books containing author substring.
+     *
+     * @param author query
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByAuthor(String author) {
+        if (author == null) return Collections.emptyList();
+        String query = author.toLowerCase();
+        List<Book> result = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row) && readString(field(row, AUTHOR)).toLowerCase().contains(query)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds books within price range.
+     *
+     * @param min minimum price
+     * @param max maximum price
+     * @return list of matching books
+     */
+    @Override
+    public List<Book> findByPriceRange(double min, double max) {
+        if (min > max) throw new IllegalArgumentException("Invalid price range");
+        List<Book> result = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            double price = price(row);
+            if (isLive(row) && price >= min && price <= max) result.add(materialize(row));
+        }
+        return result;
+    }
+
+    /**
+     * Finds books published in a given year.
+     *
+     * @param year year
+     * @return list of matching books
+     */
+    public List<Book> findByYear(int year) {
+        List<Book> result = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row) && year(row) == year) result.add(materialize(row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of books.
+     *
+     * @return inventory size
+     */
+    @Override
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * Returns total value of inventory.
+     *
+     * @return sum of prices
+     */
+    @Override
+    public double inventoryValue() {
+        double sum = 0.0;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) sum += price(row);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the most expensive book.
+     *
+     * @return book with highest price
+     */
+    @Override
+    public Book getMostExpensive() {
+        int best = -1;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row) && (best < 0 || price(row) > price(best))) best = row;
+        }
+        return best < 0 ? null : materialize(best);
+    }
+
+    /**
+     * Returns the most recent book.
+     *
+     * @return book with latest year
+     */
+    @Override
+    public Book getMostRecent() {
+        int best = -1;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row) && (best < 0 || year(row) > year(best))) best = row;
+        }
+        return best < 0 ? null : materialize(best);
+    }
+
+    /**
+     * Returns snapshot of inventory as array.
+     *
+     * @return array of books
+     */
+    @Override
+    public Book[] snapshotArray() {
+        Book[] books = new Book[liveCount];
+        int next = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) books[next++] = materialize(row);
+        }
+        return books;
+    }
+
+    /**
+     * Returns copy of all books.
+     *
+     * @return list of books
+     */
+    @Override
+    public List<Book> getAllBooks() {
+        List<Book> books = new ArrayList<>(liveCount);
+        Collections.addAll(books, snapshotArray());
+        return books;
+    }
+
+    /**
+     * Clears the inventory and reclaims all file space for reuse.
+     */
+    public void clear() {
+        rowCount = 0;
+        liveCount = 0;
+        stringEnd = HEADER;
+        saveCounters();
+        rebuildIndex(INITIAL_SLOTS);
+    }
+
+    /**
+     * Writes all mapped changes to the storage device.
+     */
+    public void flush() {
+        records.force();
+        strings.force();
+        index.force();
+    }
+
+    /**
+     * Flushes and closes the catalog files.
+     *
+     * @throws IOException if a file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        recordChannel.close();
+        stringChannel.close();
+        indexChannel.close();
+    }
+
+    /**
+     * String summary of inventory.
+     *
+     * @return formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("BookstoreMapped[size=%d, value=%.2f]", size(), inventoryValue());
+    }
+
+    private Book materialize(int row) {
+        return new Book(readString(field(row, ISBN)), readString(field(row, TITLE)),
+                readString(field(row, AUTHOR)), price(row), year(row));
+    }
+
+    private boolean isLive(int row) {
+        return records.getInt(HEADER + row * RECORD_SIZE + FLAGS) == LIVE;
+    }
+
+    private double price(int row) {
+        return records.getDouble(HEADER + row * RECORD_SIZE + PRICE);
+    }
+
+    private int year(int row) {
+        return records.getInt(HEADER + row * RECORD_SIZE + YEAR);
+    }
+
+    private int field(int row, int offset) {
+        return records.getInt(HEADER + row * RECORD_SIZE + offset);
+    }
+
+    /**
+     * Appends a length-prefixed string to the heap and returns its offset.
+     */
+    private int writeString(byte[] bytes) {
+        int needed = stringEnd + 4 + bytes.length;
+        if (needed > strings.capacity()) {
+            strings = remap(stringChannel, Math.max(needed, strings.capacity() * 2L));
+        }
+        int offset = stringEnd;
+        strings.putInt(offset, bytes.length);
+        strings.put(offset + 4, bytes);
+        stringEnd = needed;
+        return offset;
+    }
+
+    private String readString(int offset) {
+        byte[] bytes = new byte[strings.getInt(offset)];
+        strings.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long isbnKey(int row) {
+        return records.getLong(HEADER + row * RECORD_SIZE + ISBN_KEY);
+    }
+
+    private void ensureRecordCapacity(int rows) {
+        long needed = HEADER + (long) rows * RECORD_SIZE;
+        if (needed > records.capacity()) {
+            records = remap(recordChannel, Math.max(needed, records.capacity() * 2L));
+        }
+    }
+
+    /**
+     * Probes the index for an ISBN key and returns its slot, or -1 if absent.
+     */
+    private int findSlot(long key) {
+        int mask = slots - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int offset = slotOffset(slot);
+            int entry = index.getInt(offset + SLOT_ROW);
+            if (entry == EMPTY) return -1;
+            if (entry != DELETED && index.getLong(offset + SLOT_KEY) == key) return slot;
+        }
+    }
+
+    private void insertSlot(long key, int row) {
+        int mask = slots - 1;
+        int slot = hash(key) & mask;
+        while (index.getInt(slotOffset(slot) + SLOT_ROW) > EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        int offset = slotOffset(slot);
+        if (index.getInt(offset + SLOT_ROW) == EMPTY) usedSlots++;
+        index.putLong(offset + SLOT_KEY, key);
+        index.putInt(offset + SLOT_ROW, row + 1);
+        index.putInt(12, usedSlots);
+    }
+
+    /**
+     * Recreates the hash index with at least {@code minSlots} slots from the
+     * live records, dropping deleted markers.
+     */
+    private void rebuildIndex(int minSlots) {
+        int capacity = Integer.highestOneBit(Math.max(minSlots, INITIAL_SLOTS) - 1) << 1;
+        long bytes = HEADER + (long) capacity * SLOT_SIZE;
+        index = remap(indexChannel, Math.max(bytes, index == null ? 0 : index.capacity()));
+        for (int offset = 0; offset < bytes; offset += 4) {
+            index.putInt(offset, 0);
+        }
+        writeHeader(index);
+        slots = capacity;
+        usedSlots = 0;
+        index.putInt(8, slots);
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                insertSlot(isbnKey(row), row);
+            }
+        }
+        index.putInt(12, usedSlots);
+    }
+
+    private void saveCounters() {
+        records.putInt(8, rowCount);
+        records.putInt(12, liveCount);
+        strings.putInt(8, stringEnd);
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER + slot * SLOT_SIZE;
+    }
+
+    private static int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static void writeHeader(MappedByteBuffer buffer) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+    }
+
+    private static void checkHeader(MappedByteBuffer buffer, String name) throws IOException {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException(name + " is not a version " + FORMAT_VERSION + " catalog file");
+        }
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static MappedByteBuffer remap(FileChannel channel, long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Catalog file would exceed 2 GB");
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.university.bookstore.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Running aggregates of an inventory, updated on every add and remove so that
+ * statistics, total value and summaries cost O(1) instead of full scans.
+ *
+ * <p>The total value uses Neumaier's compensated summation, which keeps the
+ * rounding error independent of how many books were added and removed. Years
+ * are counted in a histogram starting at {@link Book#MIN_YEAR}, the earliest
+ * year a Book accepts, so min and max year survive removals without a rescan
+ * of the inventory. Authors are reference-counted to report unique authors.</p>
+ */
+final class InventoryStats {
+
+    private static final int MIN_YEAR = Book.MIN_YEAR;
+
+    private int count;
+    private double sum;
+    private double compensation;
+    private int[] years = new int[640];
+    private int minYear = Integer.MAX_VALUE;
+    private int maxYear = Integer.MIN_VALUE;
+    private final Map<String, Integer> authors = new HashMap<>();
+
+    /**
+     * Records a book that joined the inventory.
+     *
+     * @param book added book
+     */
+    void add(Book book) {
+        count++;
+        accumulate(book.getPrice());
+
+        int slot = book.getYear() - MIN_YEAR;
+        if (slot >= years.length) years = Arrays.copyOf(years, Math.max(slot + 1, years.length * 2));
+        years[slot]++;
+        minYear = Math.min(minYear, book.getYear());
+        maxYear = Math.max(maxYear, book.getYear());
+
+        authors.merge(book.getAuthor(), 1, Integer::sum);
+    }
+
+    /**
+     * Records a book that left the inventory.
+     *
+     * @param book removed book, previously passed to {@link #add(Book)}
+     */
+    void remove(Book book) {
+        count--;
+        if (count == 0) {
+            clear();
+            return;
+        }
+        accumulate(-book.getPrice());
+
+        int year = book.getYear();
+        years[year - MIN_YEAR]--;
+        if (years[year - MIN_YEAR] == 0) {
+            if (year == minYear) {
+                while (years[minYear - MIN_YEAR] == 0) minYear++;
+            }
+            if (year == maxYear) {
+                while (years[maxYear - MIN_YEAR] == 0) maxYear--;
+            }
+        }
+
+        authors.computeIfPresent(book.getAuthor(), (author, refs) -> refs == 1 ? null : refs - 1);
+    }
+
+    /**
+     * Resets every aggregate to the empty inventory.
+     */
+    void clear() {
+        count = 0;
+        sum = 0.0;
+        compensation = 0.0;
+        Arrays.fill(years, 0);
+        minYear = Integer.MAX_VALUE;
+        maxYear = Integer.MIN_VALUE;
+        authors.clear();
+    }
+
+    /**
+     * Returns the compensated sum of all prices.
+     *
+     * @return total inventory value
+     */
+    double totalValue() {
+        return count == 0 ? 0.0 : sum + compensation;
+    }
+
+    /**
+     * Returns statistics in the format of {@code getStatistics()}.
+     *
+     * @return map with size, total_value, average_price, min_year, max_year, unique_authors
+     */
+    Map<String, Object> toMap() {
+        double total = totalValue();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", count);
+        stats.put("total_value", total);
+        stats.put("average_price", count == 0 ? 0 : total / count);
+        stats.put("min_year", count == 0 ? 0 : minYear);
+        stats.put("max_year", count == 0 ? 0 : maxYear);
+        stats.put("unique_authors", (long) authors.size());
+        return stats;
+    }
+
+    /**
+     * Neumaier summation step.
+     */
+    private void accumulate(double value) {
+        double next = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - next) + value;
+        } else {
+            compensation += (value - next) + sum;
+        }
+        sum = next;
+    }
+}
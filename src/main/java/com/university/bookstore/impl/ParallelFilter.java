@@ -0,0 +1,71 @@
+package com.university.bookstore.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Fork-join filter over a range of a book list.
+ *
+ * <p>The range is split in halves until it is at most {@code leafSize}
+ * books; each leaf filters its slice sequentially into its own list and the
+ * halves are joined left before right, so the result keeps the order of the
+ * source list exactly as a sequential scan would.</p>
+ */
+final class ParallelFilter extends RecursiveTask<List<Book>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Book> books;
+    private final Predicate<Book> predicate;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    private ParallelFilter(List<Book> books, Predicate<Book> predicate, int from, int to, int leafSize) {
+        this.books = books;
+        this.predicate = predicate;
+        this.from = from;
+        this.to = to;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Filters {@code books} on {@code pool}, splitting into roughly four
+     * leaves per worker thread.
+     *
+     * @param pool pool to run on
+     * @param books random-access list that must not change during the call
+     * @param predicate filter to apply
+     * @return matching books in list order
+     */
+    static List<Book> filter(ForkJoinPool pool, List<Book> books, Predicate<Book> predicate) {
+        int leafSize = Math.max(1024, books.size() / (pool.getParallelism() * 4));
+        return pool.invoke(new ParallelFilter(books, predicate, 0, books.size(), leafSize));
+    }
+
+    @Override
+    protected List<Book> compute() {
+        if (to - from <= leafSize) {
+            List<Book> result = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Book book = books.get(i);
+                if (predicate.test(book)) result.add(book);
+            }
+            return result;
+        }
+
+        int mid = (from + to) >>> 1;
+        ParallelFilter right = new ParallelFilter(books, predicate, mid, to, leafSize);
+        right.fork();
+        List<Book> result = new ParallelFilter(books, predicate, from, mid, leafSize).compute();
+        List<Book> rightResult = right.join();
+        if (result.isEmpty()) return rightResult;
+        result.addAll(rightResult);
+        return result;
+    }
+}
@@ -0,0 +1,239 @@
+package com.university.bookstore.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.university.bookstore.api.BatchResult;
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.api.Query;
+import com.university.bookstore.model.Book;
+
+/**
+ * Copy-on-write snapshot mode for any BookstoreAPI implementation.
+ *
+ * <p>Wraps a store and publishes an immutable, versioned snapshot of its
+ * contents lazily, on the first read after a mutation. Until the next
+ * successful add or removeByIsbn, getAllBooks returns the same shared
+ * read-only list without copying, and {@link #version()} stays the same, so
+ * callers can cache anything they derive from it.</p>
+ *
+ * <p>The wrapped store must only be mutated through this wrapper, otherwise
+ * the snapshot goes stale. Arrays cannot be made read-only, so snapshotArray
+ * still returns a copy, cloned from the shared snapshot.</p>
+ */
+public class SnapshotBookstore implements BookstoreAPI {
+
+    private final BookstoreAPI delegate;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Wraps a store in snapshot mode.
+     *
+     * @param delegate store holding the books
+     * @throws NullPointerException if delegate is null
+     */
+    public SnapshotBookstore(BookstoreAPI delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("Delegate store cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the version of the current contents. It increases by one with
+     * each successful mutation and never changes between them.
+     *
+     * @return snapshot version
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Returns the shared immutable snapshot of the current contents.
+     *
+     * @return read-only list of books; never copied until the next mutation
+     */
+    public List<Book> snapshot() {
+        return current().books;
+    }
+
+    @Override
+    public boolean add(Book book) {
+        return changed(delegate.add(book));
+    }
+
+    /**
+     * Adds books through the delegate's bulk path, publishing one new
+     * version for the whole batch.
+     */
+    @Override
+    public BatchResult addAll(Collection<Book> books) {
+        BatchResult result = delegate.addAll(books);
+        changed(result.succeeded() > 0);
+        return result;
+    }
+
+    @Override
+    public boolean removeByIsbn(String isbn) {
+        return changed(delegate.removeByIsbn(isbn));
+    }
+
+    /**
+     * Removes books through the delegate's bulk path, publishing one new
+     * version for the whole batch.
+     */
+    @Override
+    public BatchResult removeAllByIsbn(Collection<String> isbns) {
+        BatchResult result = delegate.removeAllByIsbn(isbns);
+        changed(result.succeeded() > 0);
+        return result;
+    }
+
+    @Override
+    public List<Book> topK(BookKey key, int k, Predicate<Book> filter) {
+        return delegate.topK(key, k, filter);
+    }
+
+    @Override
+    public List<Book> bottomK(BookKey key, int k, Predicate<Book> filter) {
+        return delegate.bottomK(key, k, filter);
+    }
+
+    @Override
+    public Book findByISBN(String isbn) {
+        return delegate.findByISBN(isbn);
+    }
+
+    @Override
+    public List<Book> findByTitle(String title) {
+        return delegate.findByTitle(title);
+    }
+
+    @Override
+    public List<Book> findByAuthor(String author) {
+        return delegate.findByAuthor(author);
+    }
+
+    @Override
+    public List<Book> findByPriceRange(double priceMin, double priceMax) {
+        return delegate.findByPriceRange(priceMin, priceMax);
+    }
+
+    @Override
+    public Page<Book> findByTitle(String title, String cursor, int limit) {
+        return delegate.findByTitle(title, cursor, limit);
+    }
+
+    @Override
+    public Page<Book> findByAuthor(String author, String cursor, int limit) {
+        return delegate.findByAuthor(author, cursor, limit);
+    }
+
+    @Override
+    public Page<Book> findByPriceRange(double priceMin, double priceMax, String cursor, int limit) {
+        return delegate.findByPriceRange(priceMin, priceMax, cursor, limit);
+    }
+
+    @Override
+    public List<Book> getAllBooks(BookKey key) {
+        return delegate.getAllBooks(key);
+    }
+
+    @Override
+    public Page<Book> getAllBooks(BookKey key, String cursor, int limit) {
+        return delegate.getAllBooks(key, cursor, limit);
+    }
+
+    @Override
+    public List<Book> query(Query query) {
+        return delegate.query(query);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public double inventoryValue() {
+        return delegate.inventoryValue();
+    }
+
+    @Override
+    public Book getMostExpensive() {
+        return delegate.getMostExpensive();
+    }
+
+    @Override
+    public Book getMostRecent() {
+        return delegate.getMostRecent();
+    }
+
+    /**
+     * Returns a copy of the shared snapshot array.
+     *
+     * @return array of books
+     */
+    @Override
+    public Book[] snapshotArray() {
+        return current().array.clone();
+    }
+
+    /**
+     * Returns the shared snapshot without copying.
+     *
+     * @return read-only list of books
+     */
+    @Override
+    public List<Book> getAllBooks() {
+        return current().books;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SnapshotBookstore[version=%d, %s]", version(), delegate);
+    }
+
+    private boolean changed(boolean mutated) {
+        if (mutated) version.incrementAndGet();
+        return mutated;
+    }
+
+    /**
+     * Returns the snapshot for the current version, taking a new one from the
+     * delegate if a mutation happened since the last read.
+     */
+    private Snapshot current() {
+        long expected = version.get();
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version == expected) return cached;
+
+        Book[] array = delegate.snapshotArray();
+        Snapshot fresh = new Snapshot(expected, array);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    /**
+     * Immutable contents of the store at one version.
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final Book[] array;
+        private final List<Book> books;
+
+        Snapshot(long version, Book[] array) {
+            this.version = version;
+            this.array = array;
+            this.books = Collections.unmodifiableList(Arrays.asList(array));
+        }
+    }
+}
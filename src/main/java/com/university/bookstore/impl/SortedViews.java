@@ -0,0 +1,135 @@
+package com.university.bookstore.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.model.Book;
+
+/**
+ * Sorted copies of an inventory, one per {@link BookKey}, kept in order as
+ * books are added and removed.
+ *
+ * <p>Each view is a list in {@link BookKey#strictComparator()} order, so
+ * every book has exactly one place and the order does not depend on
+ * insertion order. A view is built by sorting the inventory the first time
+ * it is asked for, so keys nobody reads cost nothing. From then on, an add
+ * or remove binary-searches the book's place in O(log N) comparisons, but
+ * then shifts the tail of the backing array, so each mutation costs O(N)
+ * per built view. The shift is a single array copy, and it is accepted in
+ * exchange for O(1) positional paging, which a tree would turn into a walk
+ * to the cursor. Bulk adds append and re-sort, which TimSort does as a merge
+ * of the two sorted runs. Reading a view or a page of it never sorts, and
+ * callers using different keys do not disturb each other.</p>
+ *
+ * <p>Every method synchronizes on this object, so concurrent readers of a
+ * store that is not being mutated can build a view on first use without
+ * racing, and each view is safely published to the threads reading it.</p>
+ */
+final class SortedViews {
+
+    private final Map<BookKey, List<Book>> views = new EnumMap<>(BookKey.class);
+
+    /**
+     * Returns a copy of the view for a key, building the view on first use.
+     *
+     * @param key sort key
+     * @param inventory current books, used only to build the view
+     * @return books in key order
+     */
+    synchronized List<Book> sorted(BookKey key, Collection<Book> inventory) {
+        return new ArrayList<>(view(key, inventory));
+    }
+
+    private List<Book> view(BookKey key, Collection<Book> inventory) {
+        List<Book> view = views.get(key);
+        if (view == null) {
+            view = new ArrayList<>(inventory);
+            view.sort(key.strictComparator());
+            views.put(key, view);
+        }
+        return view;
+    }
+
+    /**
+     * Returns one page of a view by position.
+     *
+     * @param key sort key
+     * @param inventory current books, used only to build the view
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit maximum number of books on the page
+     * @return page of books in key order
+     */
+    synchronized Page<Book> page(BookKey key, Collection<Book> inventory, String cursor, int limit) {
+        Page.checkLimit(limit);
+        List<Book> view = view(key, inventory);
+        int from = Math.min(Page.parsePosition(cursor), view.size());
+        int to = (int) Math.min((long) from + limit, view.size());
+        return new Page<>(new ArrayList<>(view.subList(from, to)), to < view.size() ? Page.cursor(to) : null);
+    }
+
+    /**
+     * Inserts a book that joined the inventory into every built view.
+     *
+     * @param book added book
+     */
+    synchronized void add(Book book) {
+        for (Map.Entry<BookKey, List<Book>> entry : views.entrySet()) {
+            List<Book> view = entry.getValue();
+            int index = Collections.binarySearch(view, book, entry.getKey().strictComparator());
+            if (index < 0) view.add(-index - 1, book);
+        }
+    }
+
+    /**
+     * Inserts books that joined the inventory into every built view.
+     *
+     * @param books added books
+     */
+    synchronized void addAll(Collection<Book> books) {
+        if (books.isEmpty()) return;
+        for (Map.Entry<BookKey, List<Book>> entry : views.entrySet()) {
+            List<Book> view = entry.getValue();
+            view.addAll(books);
+            view.sort(entry.getKey().strictComparator());
+        }
+    }
+
+    /**
+     * Drops a book that left the inventory from every built view.
+     *
+     * @param book removed book
+     */
+    synchronized void remove(Book book) {
+        for (Map.Entry<BookKey, List<Book>> entry : views.entrySet()) {
+            List<Book> view = entry.getValue();
+            int index = Collections.binarySearch(view, book, entry.getKey().strictComparator());
+            if (index >= 0) view.remove(index);
+        }
+    }
+
+    /**
+     * Drops the books matching {@code removed} from every built view in one
+     * pass per view.
+     *
+     * @param removed condition true for exactly the books that left the inventory
+     */
+    synchronized void removeIf(Predicate<Book> removed) {
+        for (List<Book> view : views.values()) {
+            view.removeIf(removed);
+        }
+    }
+
+    /**
+     * Discards every view.
+     */
+    synchronized void clear() {
+        views.clear();
+    }
+}
@@ -0,0 +1,203 @@
+package com.university.bookstore.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Trigram inverted index answering case-insensitive substring queries on one
+ * text field of a book (title or author).
+ *
+ * <p>Each field is lowercased once when the book is added and the book gets
+ * an increasing integer id, so every posting list is a sorted {@code int[]}.
+ * A query of three or more characters intersects the posting lists of its
+ * trigrams, starting from the shortest, and confirms each candidate with
+ * {@code contains}, so results are exactly those of a
+ * {@code toLowerCase().contains(query)} scan. Shorter queries have no trigram
+ * and fall back to scanning the pre-lowercased text.</p>
+ *
+ * <p>Removal only clears the book's id; postings are compacted once dead ids
+ * outnumber live ones, which keeps removal amortized O(1).</p>
+ */
+final class SubstringIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACT = 1024;
+
+    private final Function<Book, String> field;
+    private final Map<Book, Integer> ids = new HashMap<>();
+    private final Map<Long, Posting> postings = new HashMap<>();
+    private Book[] books = new Book[16];
+    private String[] texts = new String[16];
+    private int nextId;
+
+    /**
+     * Creates an empty index over the given field.
+     *
+     * @param field accessor of the indexed text, e.g. {@code Book::getTitle}
+     */
+    SubstringIndex(Function<Book, String> field) {
+        this.field = field;
+    }
+
+    /**
+     * Indexes a book. The book must not already be indexed.
+     *
+     * @param book book to index
+     */
+    void add(Book book) {
+        if (nextId == books.length) {
+            books = Arrays.copyOf(books, nextId * 2);
+            texts = Arrays.copyOf(texts, nextId * 2);
+        }
+        int id = nextId++;
+        String text = field.apply(book).toLowerCase();
+        books[id] = book;
+        texts[id] = text;
+        ids.put(book, id);
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            postings.computeIfAbsent(gram(text, i), g -> new Posting()).append(id);
+        }
+    }
+
+    /**
+     * Removes a book from the index.
+     *
+     * @param book book to remove
+     */
+    void remove(Book book) {
+        Integer id = ids.remove(book);
+        if (id == null) return;
+        books[id] = null;
+        texts[id] = null;
+        int dead = nextId - ids.size();
+        if (dead > MIN_COMPACT && dead > ids.size()) compact();
+    }
+
+    /**
+     * Removes every book from the index.
+     */
+    void clear() {
+        ids.clear();
+        postings.clear();
+        Arrays.fill(books, 0, nextId, null);
+        Arrays.fill(texts, 0, nextId, null);
+        nextId = 0;
+    }
+
+    /**
+     * Finds books whose field contains the query, ignoring case.
+     *
+     * @param query substring to look for, not null
+     * @return matching books in the order they were indexed
+     */
+    List<Book> search(String query) {
+        String needle = query.toLowerCase();
+        List<Book> matches = new ArrayList<>();
+        if (needle.length() < GRAM) {
+            for (int id = 0; id < nextId; id++) {
+                if (texts[id] != null && texts[id].contains(needle)) matches.add(books[id]);
+            }
+            return matches;
+        }
+
+        Posting[] lists = new Posting[needle.length() - GRAM + 1];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(gram(needle, i));
+            if (lists[i] == null) return matches;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(posting -> posting.size));
+
+        int[] cursors = new int[lists.length];
+        Posting shortest = lists[0];
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int id = shortest.ids[i];
+            if (texts[id] == null) continue;
+            for (int j = 1; j < lists.length; j++) {
+                cursors[j] = lists[j].seek(id, cursors[j]);
+                if (cursors[j] == lists[j].size) break candidates;
+                if (lists[j].ids[cursors[j]] != id) continue candidates;
+            }
+            if (texts[id].contains(needle)) matches.add(books[id]);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of books {@link #search} would
+     * return, without searching: the length of the shortest posting list of
+     * the query's trigrams, or the number of books for short queries.
+     *
+     * @param query substring to look for, not null
+     * @return candidate count bound
+     */
+    int estimate(String query) {
+        String needle = query.toLowerCase();
+        if (needle.length() < GRAM) return ids.size();
+        int shortest = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            Posting posting = postings.get(gram(needle, i));
+            if (posting == null) return 0;
+            shortest = Math.min(shortest, posting.size);
+        }
+        return shortest;
+    }
+
+    /**
+     * Reassigns dense ids to the live books and rebuilds every posting list.
+     */
+    private void compact() {
+        Book[] live = new Book[ids.size()];
+        int count = 0;
+        for (int id = 0; id < nextId; id++) {
+            if (books[id] != null) live[count++] = books[id];
+        }
+        clear();
+        for (Book book : live) {
+            add(book);
+        }
+    }
+
+    /**
+     * Packs the three chars starting at {@code i} into one key.
+     */
+    private static Long gram(String text, int i) {
+        return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    /**
+     * Growable, ascending list of book ids sharing one trigram.
+     */
+    private static final class Posting {
+        private int[] ids = new int[4];
+        private int size;
+
+        void append(int id) {
+            if (size > 0 && ids[size - 1] == id) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        /**
+         * Returns the first index at or after {@code from} whose id is not
+         * below {@code id}, or {@code size} if there is none.
+         */
+        int seek(int id, int from) {
+            int low = from;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] < id) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+}
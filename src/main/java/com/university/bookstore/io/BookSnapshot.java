@@ -0,0 +1,268 @@
+package com.university.bookstore.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+
+/**
+ * Compact binary save and restore of a whole inventory.
+ *
+ * <p>A snapshot file is a 24-byte header followed by the payload:</p>
+ * <pre>
+ * header   magic "BKSN" (int), format version (byte), 3 reserved bytes,
+ *          book count (int), payload length (long), CRC32 of payload (int)
+ * payload  string count (int), then each distinct string as an int byte
+ *          length and its UTF-8 bytes;
+ *          prices (double[count]), years (int[count]),
+ *          title, author and ISBN string ids (int[count] each)
+ * </pre>
+ *
+ * <p>Authors are deduplicated through the table, so an author with many
+ * books is stored once; titles and ISBNs are nearly always unique and are
+ * appended without hashing. Files are written through a direct ByteBuffer to a
+ * temporary file that is fsynced and atomically renamed over the target;
+ * the parent directory is then fsynced so the rename itself survives a
+ * power loss before write returns. Files are read by mapping
+ * the payload; the checksum is verified before any book is built. Restored
+ * books still pass through the Book constructor, whose validation is cheap
+ * compared to decoding the strings.</p>
+ */
+public final class BookSnapshot {
+
+    /**
+     * Format version written into the header.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x424B534E;
+    private static final int HEADER = 24;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private BookSnapshot() {
+    }
+
+    /**
+     * Saves every book in a store.
+     *
+     * @param store store to save
+     * @param file snapshot file, replaced atomically
+     * @throws IOException if writing fails
+     */
+    public static void write(BookstoreAPI store, Path file) throws IOException {
+        write(Arrays.asList(store.snapshotArray()), file);
+    }
+
+    /**
+     * Saves a collection of books.
+     *
+     * @param books books to save, in order
+     * @param file snapshot file, replaced atomically
+     * @throws IOException if writing fails
+     */
+    public static void write(Collection<Book> books, Path file) throws IOException {
+        write(books, file, Fsync.SYSTEM);
+    }
+
+    /**
+     * Saves a collection of books, forcing the file and its directory
+     * through {@code fsync}.
+     */
+    static void write(Collection<Book> books, Path file, Fsync fsync) throws IOException {
+        Book[] array = books.toArray(new Book[0]);
+        int count = array.length;
+
+        Map<String, Integer> ids = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] titleIds = new int[count];
+        int[] authorIds = new int[count];
+        int[] isbnIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            titleIds[i] = strings.size();
+            strings.add(array[i].getTitle().getBytes(StandardCharsets.UTF_8));
+            authorIds[i] = authorId(array[i].getAuthor(), ids, strings);
+            isbnIds[i] = strings.size();
+            strings.add(array[i].getISBN().getBytes(StandardCharsets.UTF_8));
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            PayloadWriter out = new PayloadWriter(channel);
+            out.putInt(strings.size());
+            for (byte[] bytes : strings) {
+                out.putInt(bytes.length);
+                out.putBytes(bytes);
+            }
+            for (Book book : array) out.putDouble(book.getPrice());
+            for (Book book : array) out.putInt(book.getYear());
+            for (int id : titleIds) out.putInt(id);
+            for (int id : authorIds) out.putInt(id);
+            for (int id : isbnIds) out.putInt(id);
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            header.putInt(MAGIC).put(FORMAT_VERSION).put((byte) 0).putShort((short) 0)
+                    .putInt(count).putLong(out.length).putInt((int) out.crc.getValue()).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            fsync.force(channel, temp, true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        fsync.forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Loads the books saved in a snapshot.
+     *
+     * @param file snapshot file
+     * @return books in saved order
+     * @throws IOException if the file cannot be read, is not a snapshot of
+     *         this version, or fails its checksum
+     */
+    public static List<Book> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException(file + " is too short to be a snapshot");
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) throw new IOException(file + " is not a book snapshot");
+            byte version = header.get();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + file);
+            }
+            header.position(8);
+            int count = header.getInt();
+            long length = header.getLong();
+            int checksum = header.getInt();
+            if (count < 0 || length != channel.size() - HEADER) {
+                throw new IOException(file + " is truncated or has trailing data");
+            }
+            if (length > Integer.MAX_VALUE) throw new IOException(file + " is larger than 2 GB");
+
+            MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, HEADER, length);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) throw new IOException(file + " fails its checksum");
+            return decode(payload, count, file);
+        }
+    }
+
+    /**
+     * Loads a snapshot into a store through its bulk add path.
+     *
+     * @param file snapshot file
+     * @param target store to add the books to
+     * @return number of books added
+     * @throws IOException if the snapshot cannot be read
+     */
+    public static int restore(Path file, BookstoreAPI target) throws IOException {
+        return target.addAll(read(file)).succeeded();
+    }
+
+    private static List<Book> decode(ByteBuffer payload, int count, Path file) throws IOException {
+        try {
+            String[] strings = new String[payload.getInt()];
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < strings.length; i++) {
+                int length = payload.getInt();
+                if (length > scratch.length) scratch = new byte[Math.max(length, scratch.length * 2)];
+                payload.get(scratch, 0, length);
+                strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            double[] prices = new double[count];
+            int[] years = new int[count];
+            payload.asDoubleBuffer().get(prices);
+            payload.position(payload.position() + count * 8);
+            payload.asIntBuffer().get(years);
+            payload.position(payload.position() + count * 4);
+            int[] ids = new int[count * 3];
+            payload.asIntBuffer().get(ids);
+
+            List<Book> books = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                books.add(new Book(strings[ids[count * 2 + i]], strings[ids[i]], strings[ids[count + i]],
+                        prices[i], years[i]));
+            }
+            return books;
+        } catch (RuntimeException e) {
+            throw new IOException(file + " has a valid checksum but malformed content", e);
+        }
+    }
+
+    private static int authorId(String value, Map<String, Integer> ids, List<byte[]> strings) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = strings.size();
+            ids.put(value, id);
+            strings.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return id;
+    }
+
+    /**
+     * Writes the payload through one direct buffer, checksumming each chunk
+     * as it goes out.
+     */
+    private static final class PayloadWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CRC32 crc = new CRC32();
+        private long length;
+
+        PayloadWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER);
+        }
+
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < 4) flush();
+            buffer.putInt(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            if (buffer.remaining() < 8) flush();
+            buffer.putDouble(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) flush();
+                int n = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, n);
+                offset += n;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            length += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
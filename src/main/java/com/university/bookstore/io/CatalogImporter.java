@@ -0,0 +1,291 @@
+package com.university.bookstore.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+
+/**
+ * Streaming importer for CSV and TSV catalog feeds.
+ *
+ * <p>The feed is decoded as UTF-8 from a {@link FileChannel} and parsed one
+ * record at a time, so only the current batch of Book objects is held in
+ * memory. Valid rows are handed to {@link BookstoreAPI#addAll} in batches of
+ * {@code batchSize}, letting stores use their bulk path. Rows that fail
+ * parsing or the Book rules are recorded in the {@link ImportReport} with
+ * their line number instead of aborting the import.</p>
+ *
+ * <p>Columns are isbn, title, author, price and year. If the first line
+ * names all of them (in any order, case-insensitive) it is read as a header
+ * and other columns are ignored; otherwise each row must have exactly these
+ * five fields in that order. Fields may be quoted with {@code "}, with
+ * {@code ""} for a literal quote; quoted fields may span lines.</p>
+ */
+public final class CatalogImporter {
+
+    /**
+     * Default number of books passed to each addAll call.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    /**
+     * Maximum number of rejected rows reported in detail.
+     */
+    public static final int MAX_REPORTED_REJECTIONS = 10_000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String[] COLUMNS = {"isbn", "title", "author", "price", "year"};
+    private static final int ISBN = 0;
+    private static final int TITLE = 1;
+    private static final int AUTHOR = 2;
+    private static final int PRICE = 3;
+    private static final int YEAR = 4;
+
+    private final char delimiter;
+    private final int batchSize;
+    private final boolean requireChecksum;
+
+    /**
+     * Creates an importer.
+     *
+     * @param delimiter field separator, e.g. ',' or '\t'
+     * @param batchSize books per addAll call
+     * @param requireChecksum whether to reject ISBNs with a wrong check digit
+     * @throws IllegalArgumentException if batchSize is not positive or the delimiter is a quote or line break
+     */
+    public CatalogImporter(char delimiter, int batchSize, boolean requireChecksum) {
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be positive");
+        if (delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Invalid delimiter");
+        }
+        this.delimiter = delimiter;
+        this.batchSize = batchSize;
+        this.requireChecksum = requireChecksum;
+    }
+
+    /**
+     * Creates a comma-separated importer with the default batch size.
+     *
+     * @return CSV importer
+     */
+    public static CatalogImporter csv() {
+        return new CatalogImporter(',', DEFAULT_BATCH_SIZE, false);
+    }
+
+    /**
+     * Creates a tab-separated importer with the default batch size.
+     *
+     * @return TSV importer
+     */
+    public static CatalogImporter tsv() {
+        return new CatalogImporter('\t', DEFAULT_BATCH_SIZE, false);
+    }
+
+    /**
+     * Imports a UTF-8 feed file into a store.
+     *
+     * @param file feed to read
+     * @param target store to add books to
+     * @return counts and rejected rows
+     * @throws IOException if the file cannot be read or is not UTF-8
+     */
+    public ImportReport importFile(Path file, BookstoreAPI target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), BUFFER_SIZE)) {
+            return importFrom(reader, target);
+        }
+    }
+
+    /**
+     * Imports a feed from a reader into a store. The reader is not closed.
+     *
+     * @param reader feed to read
+     * @param target store to add books to
+     * @return counts and rejected rows
+     * @throws IOException if reading fails
+     */
+    public ImportReport importFrom(Reader reader, BookstoreAPI target) throws IOException {
+        if (target == null) throw new NullPointerException("Target store cannot be null");
+        RecordReader records = new RecordReader(reader, delimiter);
+        ImportReport report = new ImportReport();
+        List<String> fields = new ArrayList<>();
+        List<Book> batch = new ArrayList<>(Math.min(batchSize, DEFAULT_BATCH_SIZE));
+        int[] columns = {0, 1, 2, 3, 4};
+        int expectedFields = COLUMNS.length;
+        boolean first = true;
+
+        while (records.next(fields)) {
+            if (fields.size() == 1 && fields.get(0).trim().isEmpty() && records.error == null) continue;
+            if (first) {
+                first = false;
+                int[] header = headerColumns(fields);
+                if (header != null) {
+                    columns = header;
+                    expectedFields = fields.size();
+                    continue;
+                }
+            }
+
+            report.rowRead();
+            if (records.error != null) {
+                report.reject(records.recordLine, records.error);
+            } else if (fields.size() != expectedFields) {
+                report.reject(records.recordLine,
+                        "Expected " + expectedFields + " fields but found " + fields.size());
+            } else {
+                Book book = parse(fields, columns, records.recordLine, report);
+                if (book != null) {
+                    batch.add(book);
+                    if (batch.size() == batchSize) flush(batch, target, report);
+                }
+            }
+        }
+        flush(batch, target, report);
+        return report;
+    }
+
+    private Book parse(List<String> fields, int[] columns, long line, ImportReport report) {
+        String price = fields.get(columns[PRICE]).trim();
+        String year = fields.get(columns[YEAR]).trim();
+        try {
+            Book book = new Book(fields.get(columns[ISBN]), fields.get(columns[TITLE]), fields.get(columns[AUTHOR]),
+                    parsePrice(price), parseYear(year));
+            if (requireChecksum && !book.hasValidIsbnChecksum()) {
+                report.reject(line, "ISBN checksum is invalid. The value provided: " + book.getISBN());
+                return null;
+            }
+            return book;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            report.reject(line, e.getMessage());
+            return null;
+        }
+    }
+
+    private static double parsePrice(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Price is not a number. The value provided: " + value);
+        }
+    }
+
+    private static int parseYear(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Year is not a whole number. The value provided: " + value);
+        }
+    }
+
+    private static void flush(List<Book> batch, BookstoreAPI target, ImportReport report) {
+        if (batch.isEmpty()) return;
+        report.batchAdded(batch.size(), target.addAll(batch).succeeded());
+        batch.clear();
+    }
+
+    /**
+     * Returns the field index of each column if {@code fields} is a header
+     * row naming all of them, or null if it is a data row.
+     */
+    private static int[] headerColumns(List<String> fields) {
+        int[] columns = {-1, -1, -1, -1, -1};
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).trim().toLowerCase(Locale.ROOT);
+            for (int c = 0; c < COLUMNS.length; c++) {
+                if (COLUMNS[c].equals(name)) columns[c] = i;
+            }
+        }
+        for (int column : columns) {
+            if (column < 0) return null;
+        }
+        return columns;
+    }
+
+    /**
+     * Splits delimited text into records, reading through a fixed char buffer.
+     */
+    private static final class RecordReader {
+        private final Reader in;
+        private final char delimiter;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder field = new StringBuilder();
+        private int position;
+        private int limit;
+        private long line;
+
+        long recordLine;
+        String error;
+
+        RecordReader(Reader in, char delimiter) {
+            this.in = in;
+            this.delimiter = delimiter;
+        }
+
+        /**
+         * Reads the next record into {@code fields}.
+         *
+         * @return false at end of input
+         */
+        boolean next(List<String> fields) throws IOException {
+            fields.clear();
+            field.setLength(0);
+            error = null;
+            int c = read();
+            if (c == -1) return false;
+            recordLine = ++line;
+
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        error = "Quoted field is not closed";
+                        fields.add(field.toString());
+                        return true;
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return true;
+                } else if (c == delimiter) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.university.bookstore.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.university.bookstore.api.BatchResult;
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.api.Query;
+import com.university.bookstore.model.Book;
+import com.university.bookstore.model.Isbn;
+import com.university.bookstore.utils.LongIntHashMap;
+
+/**
+ * Crash-safe persistence for any BookstoreAPI implementation.
+ *
+ * <p>Wraps an empty store and keeps two files in a directory: a
+ * {@link BookSnapshot} ({@code inventory.snapshot}) and a write-ahead log
+ * ({@code wal.log}) of every successful add and removeByIsbn since that
+ * snapshot. Opening replays the snapshot and then the log tail into the
+ * store. Once the log holds {@code compactAfter} records it is compacted:
+ * the store is saved as a new snapshot and the log is emptied. Replaying a
+ * log over a snapshot that already contains its effects leaves the same
+ * books, so a crash between those two steps is harmless. A failed automatic
+ * compaction is kept for {@link #lastCompactionFailure()} and retried only
+ * after another {@code compactAfter} records.</p>
+ *
+ * <p>This class is thread-safe. Every call holds this object's lock while
+ * it reads or changes the store and appends to the log, and a mutation
+ * releases the lock before it waits for its fsync. So while one fsync is in
+ * flight, other threads keep applying and logging mutations, and the next
+ * fsync covers all of them: N concurrent writers share fsyncs instead of
+ * queueing for one each. A single thread still pays one fsync per add or
+ * removeByIsbn; batch calls wait once for all of their records. Other
+ * threads can read a mutation as soon as it is applied, before its fsync
+ * completes.</p>
+ *
+ * <p>By default a mutation returns only after its log record has been
+ * fsynced. If that fsync fails, the mutation stays applied and logged, but
+ * the call throws {@link UncheckedIOException} because durability is not
+ * confirmed.</p>
+ *
+ * <p>{@link #relaxed} opts out of this: mutations return as soon as their
+ * record is written, and fsyncs happen in groups of {@code syncEvery}
+ * records or on a timer. A crash can then lose acknowledged mutations made
+ * since the last sync; call {@link #sync()} to make everything so far
+ * durable. The wrapped store must only be mutated through this wrapper.</p>
+ */
+public class DurableBookstore implements BookstoreAPI, Closeable {
+
+    /**
+     * Suggested number of pending log records that triggers an fsync in
+     * relaxed mode.
+     */
+    public static final int DEFAULT_SYNC_EVERY = 256;
+
+    /**
+     * Suggested interval at which pending log records are fsynced in relaxed
+     * mode.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 100;
+
+    /**
+     * Default log length that triggers compaction into a snapshot.
+     */
+    public static final int DEFAULT_COMPACT_AFTER = 100_000;
+
+    private final BookstoreAPI delegate;
+    private final Path snapshotFile;
+    private final WriteAheadLog log;
+    private final int compactAfter;
+    private final Fsync fsync;
+    private long compactDueAt;
+    private IOException compactionFailure;
+
+    /**
+     * Opens a durable store with the default compaction setting.
+     *
+     * @param delegate empty store to hold the books
+     * @param directory directory for the snapshot and log, created if missing
+     * @throws IOException if the files cannot be read
+     */
+    public DurableBookstore(BookstoreAPI delegate, Path directory) throws IOException {
+        this(delegate, directory, DEFAULT_COMPACT_AFTER);
+    }
+
+    /**
+     * Opens a durable store, restoring the snapshot and replaying the log.
+     * Every mutation is fsynced before it returns.
+     *
+     * @param delegate empty store to hold the books
+     * @param directory directory for the snapshot and log, created if missing
+     * @param compactAfter compact once the log holds this many records
+     * @throws IOException if the files cannot be read
+     * @throws IllegalArgumentException if delegate is not empty or compactAfter is not positive
+     */
+    public DurableBookstore(BookstoreAPI delegate, Path directory, int compactAfter) throws IOException {
+        this(delegate, directory, compactAfter, Fsync.SYSTEM);
+    }
+
+    /**
+     * Opens a durable store whose fsyncs go through {@code fsync}.
+     */
+    DurableBookstore(BookstoreAPI delegate, Path directory, int compactAfter, Fsync fsync) throws IOException {
+        this(delegate, directory, compactAfter, fsync, false, 1, 0);
+    }
+
+    private DurableBookstore(BookstoreAPI delegate, Path directory, int compactAfter, Fsync fsync,
+                             boolean relaxed, int syncEvery, long syncIntervalMillis) throws IOException {
+        if (delegate == null) {
+            throw new NullPointerException("Delegate store cannot be null");
+        }
+        if (delegate.size() != 0) throw new IllegalArgumentException("Delegate store must be empty");
+        if (compactAfter <= 0) throw new IllegalArgumentException("compactAfter must be positive");
+        this.delegate = delegate;
+        this.compactAfter = compactAfter;
+        this.compactDueAt = compactAfter;
+        this.fsync = fsync;
+
+        Files.createDirectories(directory);
+        snapshotFile = directory.resolve("inventory.snapshot");
+        if (Files.exists(snapshotFile)) {
+            BookSnapshot.restore(snapshotFile, delegate);
+        }
+        Path logFile = directory.resolve("wal.log");
+        log = relaxed
+                ? new WriteAheadLog(logFile, delegate, syncEvery, syncIntervalMillis, fsync)
+                : new WriteAheadLog(logFile, delegate, fsync);
+    }
+
+    /**
+     * Opens a store in relaxed mode: mutations return before their log
+     * record is fsynced, so a crash can lose those acknowledged since the
+     * last sync.
+     *
+     * @param delegate empty store to hold the books
+     * @param directory directory for the snapshot and log, created if missing
+     * @param syncEvery fsync the log once this many records are pending
+     * @param syncIntervalMillis fsync pending records at this interval; 0 for batch-size only
+     * @param compactAfter compact once the log holds this many records
+     * @return relaxed store
+     * @throws IOException if the files cannot be read
+     * @throws IllegalArgumentException if delegate is not empty or a setting is out of range
+     */
+    public static DurableBookstore relaxed(BookstoreAPI delegate, Path directory, int syncEvery,
+                                           long syncIntervalMillis, int compactAfter) throws IOException {
+        return new DurableBookstore(delegate, directory, compactAfter, Fsync.SYSTEM, true, syncEvery,
+                syncIntervalMillis);
+    }
+
+    @Override
+    public boolean add(Book book) {
+        long sequence;
+        synchronized (this) {
+            if (!delegate.add(book)) return false;
+            try {
+                sequence = log.logAdd(book);
+            } catch (IOException e) {
+                delegate.removeByIsbn(book.getISBN());
+                throw new UncheckedIOException(e);
+            }
+        }
+        commit(sequence);
+        compactIfDue();
+        return true;
+    }
+
+    @Override
+    public boolean removeByIsbn(String isbn) {
+        long sequence;
+        synchronized (this) {
+            Book book = delegate.findByISBN(isbn);
+            if (book == null || !delegate.removeByIsbn(isbn)) return false;
+            try {
+                sequence = log.logRemove(book.getISBN());
+            } catch (IOException e) {
+                delegate.add(book);
+                throw new UncheckedIOException(e);
+            }
+        }
+        commit(sequence);
+        compactIfDue();
+        return true;
+    }
+
+    /**
+     * Adds books through the delegate's bulk path, logs each one added and
+     * waits for one fsync covering them all. If logging fails, the books not
+     * yet logged are removed again.
+     */
+    @Override
+    public BatchResult addAll(Collection<Book> books) {
+        Book[] batch = books.toArray(new Book[0]);
+        BatchResult result;
+        long sequence = 0;
+        synchronized (this) {
+            result = delegate.addAll(Arrays.asList(batch));
+            for (int i = 0; i < batch.length; i++) {
+                if (result.get(i) != BatchResult.Outcome.ADDED) continue;
+                try {
+                    sequence = log.logAdd(batch[i]);
+                } catch (IOException e) {
+                    List<String> unlogged = new ArrayList<>();
+                    for (int j = i; j < batch.length; j++) {
+                        if (result.get(j) == BatchResult.Outcome.ADDED) unlogged.add(batch[j].getISBN());
+                    }
+                    delegate.removeAllByIsbn(unlogged);
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        if (sequence > 0) commit(sequence);
+        compactIfDue();
+        return result;
+    }
+
+    /**
+     * Removes books through the delegate's bulk path, logs each one removed
+     * and waits for one fsync covering them all. The books to remove are
+     * collected beforehand, in one pass over the store against the requested
+     * key set, so they can be added back if logging fails. That keeps a
+     * batch at O(N + K) on every delegate; a findByISBN per ISBN would be
+     * O(N * K) on stores whose lookup is a scan.
+     */
+    @Override
+    public BatchResult removeAllByIsbn(Collection<String> isbns) {
+        BatchResult result;
+        long sequence = 0;
+        synchronized (this) {
+            LongIntHashMap requested = new LongIntHashMap(isbns.size());
+            for (String isbn : isbns) {
+                long key = Isbn.key(isbn);
+                if (key != Isbn.NO_KEY) requested.put(key, 0);
+            }
+            List<Book> removed = new ArrayList<>();
+            if (!requested.isEmpty()) {
+                for (Book book : delegate.snapshotArray()) {
+                    if (requested.containsKey(book.getIsbnKey())) removed.add(book);
+                }
+            }
+
+            result = delegate.removeAllByIsbn(isbns);
+            for (int i = 0; i < removed.size(); i++) {
+                try {
+                    sequence = log.logRemove(removed.get(i).getISBN());
+                } catch (IOException e) {
+                    delegate.addAll(removed.subList(i, removed.size()));
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        if (sequence > 0) commit(sequence);
+        compactIfDue();
+        return result;
+    }
+
+    /**
+     * Makes every mutation so far durable.
+     *
+     * @throws IOException if the fsync fails
+     */
+    public void sync() throws IOException {
+        log.sync();
+    }
+
+    /**
+     * Saves the store as a new snapshot and empties the log. The snapshot's
+     * rename is fsynced, directory included, before the log is truncated, so
+     * a power loss cannot leave the old snapshot beside an empty log.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public synchronized void compact() throws IOException {
+        log.sync();
+        BookSnapshot.write(Arrays.asList(delegate.snapshotArray()), snapshotFile, fsync);
+        log.reset();
+        compactDueAt = compactAfter;
+        compactionFailure = null;
+    }
+
+    /**
+     * Returns why the last automatic compaction failed, if it did. Mutations
+     * keep succeeding meanwhile because the log stays authoritative.
+     *
+     * @return the failure, or null if the last compaction succeeded or none has run
+     */
+    public synchronized IOException lastCompactionFailure() {
+        return compactionFailure;
+    }
+
+    /**
+     * Syncs the log and closes it. The store stays readable.
+     *
+     * @throws IOException if the final sync fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        log.close();
+    }
+
+    @Override
+    public synchronized List<Book> topK(BookKey key, int k, Predicate<Book> filter) {
+        return delegate.topK(key, k, filter);
+    }
+
+    @Override
+    public synchronized List<Book> bottomK(BookKey key, int k, Predicate<Book> filter) {
+        return delegate.bottomK(key, k, filter);
+    }
+
+    @Override
+    public synchronized Book findByISBN(String isbn) {
+        return delegate.findByISBN(isbn);
+    }
+
+    @Override
+    public synchronized List<Book> findByTitle(String title) {
+        return delegate.findByTitle(title);
+    }
+
+    @Override
+    public synchronized List<Book> findByAuthor(String author) {
+        return delegate.findByAuthor(author);
+    }
+
+    @Override
+    public synchronized List<Book> findByPriceRange(double priceMin, double priceMax) {
+        return delegate.findByPriceRange(priceMin, priceMax);
+    }
+
+    @Override
+    public synchronized Page<Book> findByTitle(String title, String cursor, int limit) {
+        return delegate.findByTitle(title, cursor, limit);
+    }
+
+    @Override
+    public synchronized Page<Book> findByAuthor(String author, String cursor, int limit) {
+        return delegate.findByAuthor(author, cursor, limit);
+    }
+
+    @Override
+    public synchronized Page<Book> findByPriceRange(double priceMin, double priceMax, String cursor, int limit) {
+        return delegate.findByPriceRange(priceMin, priceMax, cursor, limit);
+    }
+
+    @Override
+    public synchronized Page<Book> getAllBooks(String cursor, int limit) {
+        return delegate.getAllBooks(cursor, limit);
+    }
+
+    @Override
+    public synchronized List<Book> getAllBooks(BookKey key) {
+        return delegate.getAllBooks(key);
+    }
+
+    @Override
+    public synchronized Page<Book> getAllBooks(BookKey key, String cursor, int limit) {
+        return delegate.getAllBooks(key, cursor, limit);
+    }
+
+    @Override
+    public synchronized List<Book> query(Query query) {
+        return delegate.query(query);
+    }
+
+    @Override
+    public synchronized int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public synchronized double inventoryValue() {
+        return delegate.inventoryValue();
+    }
+
+    @Override
+    public synchronized Book getMostExpensive() {
+        return delegate.getMostExpensive();
+    }
+
+    @Override
+    public synchronized Book getMostRecent() {
+        return delegate.getMostRecent();
+    }
+
+    @Override
+    public synchronized Book[] snapshotArray() {
+        return delegate.snapshotArray();
+    }
+
+    @Override
+    public synchronized List<Book> getAllBooks() {
+        return delegate.getAllBooks();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("DurableBookstore[size=%d, logged=%d, delegate=%s]",
+                size(), log.records(), delegate);
+    }
+
+    /**
+     * Waits for the fsync covering a logged mutation. The mutation is not
+     * undone on failure: its record may still reach the disk.
+     */
+    private void commit(long sequence) {
+        try {
+            log.commit(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void compactIfDue() {
+        if (log.records() < compactDueAt) return;
+        try {
+            compact();
+        } catch (IOException e) {
+            // The mutation is already logged and the log stays authoritative;
+            // back off so a persistent failure is not retried on every write.
+            compactionFailure = e;
+            compactDueAt = log.records() + compactAfter;
+        }
+    }
+}
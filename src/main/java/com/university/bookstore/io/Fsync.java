@@ -0,0 +1,55 @@
+package com.university.bookstore.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Forces written files and directory entries to stable storage.
+ *
+ * <p>The snapshot and log code route every fsync through this interface so
+ * that tests can record their order or count them. Production code uses
+ * {@link #SYSTEM}.</p>
+ */
+interface Fsync {
+
+    /**
+     * Forces the real file and directory fsyncs.
+     */
+    Fsync SYSTEM = new Fsync() {
+        @Override
+        public void force(FileChannel channel, Path file, boolean metadata) throws IOException {
+            channel.force(metadata);
+        }
+
+        @Override
+        public void forceDirectory(Path directory) throws IOException {
+            // Windows cannot open a directory as a channel; NTFS journals
+            // renames and creations, so there is nothing to force there.
+            if (System.getProperty("os.name", "").startsWith("Windows")) return;
+            try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                channel.force(true);
+            }
+        }
+    };
+
+    /**
+     * Forces a file's written content to disk.
+     *
+     * @param channel open channel to the file
+     * @param file path of the file, for identification
+     * @param metadata also force metadata such as the file length
+     * @throws IOException if the fsync fails
+     */
+    void force(FileChannel channel, Path file, boolean metadata) throws IOException;
+
+    /**
+     * Forces a directory's entries to disk, making a rename or newly created
+     * file in it durable.
+     *
+     * @param directory directory to force
+     * @throws IOException if the fsync fails
+     */
+    void forceDirectory(Path directory) throws IOException;
+}
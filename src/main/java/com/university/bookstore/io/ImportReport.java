@@ -0,0 +1,94 @@
+package com.university.bookstore.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one {@link CatalogImporter} run.
+ *
+ * <p>Every data row is counted exactly once as imported, duplicate or
+ * rejected. Details are kept for at most
+ * {@link CatalogImporter#MAX_REPORTED_REJECTIONS} rejected rows so a broken
+ * feed cannot exhaust memory; {@link #getRejectedCount()} is always exact.</p>
+ */
+public final class ImportReport {
+
+    private long rowsRead;
+    private long imported;
+    private long duplicates;
+    private long rejectedCount;
+    private final List<RejectedRow> rejected = new ArrayList<>();
+
+    ImportReport() {
+    }
+
+    void rowRead() {
+        rowsRead++;
+    }
+
+    void batchAdded(int size, int added) {
+        imported += added;
+        duplicates += size - added;
+    }
+
+    void reject(long line, String reason) {
+        rejectedCount++;
+        if (rejected.size() < CatalogImporter.MAX_REPORTED_REJECTIONS) {
+            rejected.add(new RejectedRow(line, reason));
+        }
+    }
+
+    /**
+     * Returns the number of data rows read, excluding the header and blank lines.
+     *
+     * @return rows read
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Returns the number of books added to the store.
+     *
+     * @return books imported
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * Returns the number of valid rows skipped because their ISBN was
+     * already in the store or earlier in the feed.
+     *
+     * @return duplicate rows
+     */
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Returns the number of rows that failed parsing or validation.
+     *
+     * @return rejected rows
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns the rejected rows in feed order, capped at
+     * {@link CatalogImporter#MAX_REPORTED_REJECTIONS}.
+     *
+     * @return read-only list of rejected rows
+     */
+    public List<RejectedRow> getRejected() {
+        return Collections.unmodifiableList(rejected);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportReport[read=%d, imported=%d, duplicates=%d, rejected=%d]",
+                rowsRead, imported, duplicates, rejectedCount);
+    }
+}
@@ -0,0 +1,38 @@
+package com.university.bookstore.io;
+
+/**
+ * A feed row that could not be imported, with the line it started on.
+ */
+public final class RejectedRow {
+
+    private final long line;
+    private final String reason;
+
+    RejectedRow(long line, String reason) {
+        this.line = line;
+        this.reason = reason;
+    }
+
+    /**
+     * Returns the 1-based line number the row starts on.
+     *
+     * @return line number
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Returns why the row was rejected.
+     *
+     * @return reason, usually the Book validation message
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "line " + line + ": " + reason;
+    }
+}
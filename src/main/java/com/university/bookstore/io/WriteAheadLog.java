@@ -0,0 +1,393 @@
+package com.university.bookstore.io;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.model.Book;
+
+/**
+ * Append-only log of inventory mutations with group commit.
+ *
+ * <p>The file starts with an 8-byte header (magic, version). Each record is
+ * an int length, an int CRC32 of the body, and the body: an op byte followed
+ * by the ISBN, and for adds the title, author, price and year. Strings are
+ * an int byte length and UTF-8 bytes.</p>
+ *
+ * <p>Each append returns the record's sequence number. In the default
+ * durable mode, {@link #commit(long)} blocks until an fsync covering that
+ * record has completed. Callers that commit while another thread's fsync is
+ * in flight wait for it, and the next fsync is issued once for all records
+ * appended in the meantime. This is a group commit: concurrent writers, and
+ * the records of one batch, share fsyncs without any record being
+ * acknowledged before it is durable.</p>
+ *
+ * <p>In relaxed mode, commit returns at once. Records are fsynced once
+ * {@code syncEvery} are pending, or every {@code syncIntervalMillis} by a
+ * background daemon thread, whichever comes first. A crash can then lose
+ * the records since the last sync, even though their mutations were
+ * acknowledged; {@link #sync()} forces them out.</p>
+ *
+ * <p>On open, records are replayed up to the first torn or corrupt one, and
+ * the file is truncated there.</p>
+ */
+final class WriteAheadLog implements Closeable {
+
+    private static final int MAGIC = 0x424B574C;
+    private static final int VERSION = 1;
+    private static final int HEADER = 8;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Fsync fsync;
+    private final boolean relaxed;
+    private final int syncEvery;
+    private final ScheduledExecutorService syncer;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer buffer = ByteBuffer.allocate(512);
+    private long appended;
+    private long synced;
+    private boolean syncing;
+    private long records;
+    private IOException failure;
+
+    /**
+     * Opens a log in durable mode, replaying its records into {@code target}.
+     *
+     * @param file log file, created if missing
+     * @param target store that receives the replayed adds and removals
+     * @param fsync how the file and its directory are forced to disk
+     * @throws IOException if the file cannot be opened or is not a log
+     */
+    WriteAheadLog(Path file, BookstoreAPI target, Fsync fsync) throws IOException {
+        this(file, target, fsync, false, 1, 0);
+    }
+
+    /**
+     * Opens a log in relaxed mode, replaying its records into {@code target}.
+     *
+     * @param file log file, created if missing
+     * @param target store that receives the replayed adds and removals
+     * @param syncEvery fsync once this many records are pending
+     * @param syncIntervalMillis fsync pending records at this interval; 0 disables the timer
+     * @param fsync how the file and its directory are forced to disk
+     * @throws IOException if the file cannot be opened or is not a log
+     */
+    WriteAheadLog(Path file, BookstoreAPI target, int syncEvery, long syncIntervalMillis, Fsync fsync)
+            throws IOException {
+        this(file, target, fsync, true, syncEvery, syncIntervalMillis);
+    }
+
+    private WriteAheadLog(Path file, BookstoreAPI target, Fsync fsync, boolean relaxed, int syncEvery,
+                          long syncIntervalMillis) throws IOException {
+        if (syncEvery <= 0) throw new IllegalArgumentException("syncEvery must be positive");
+        if (syncIntervalMillis < 0) throw new IllegalArgumentException("syncIntervalMillis cannot be negative");
+        this.file = file;
+        this.fsync = fsync;
+        this.relaxed = relaxed;
+        this.syncEvery = syncEvery;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end = replay(target);
+            channel.truncate(end);
+            channel.position(end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        if (syncIntervalMillis > 0) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            syncer = null;
+        }
+    }
+
+    /**
+     * Appends an add. The record is durable once {@link #commit(long)}
+     * returns for its sequence number.
+     *
+     * @param book added book
+     * @return sequence number of the record
+     * @throws IOException if the write fails
+     */
+    long logAdd(Book book) throws IOException {
+        byte[] isbn = book.getISBN().getBytes(StandardCharsets.UTF_8);
+        byte[] title = book.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] author = book.getAuthor().getBytes(StandardCharsets.UTF_8);
+        long sequence;
+        synchronized (this) {
+            ByteBuffer body = body(1 + 12 + isbn.length + title.length + author.length + 12);
+            body.put(ADD);
+            putString(body, isbn);
+            putString(body, title);
+            putString(body, author);
+            body.putDouble(book.getPrice());
+            body.putInt(book.getYear());
+            sequence = append(body);
+        }
+        return syncIfDue(sequence);
+    }
+
+    /**
+     * Appends a removal. The record is durable once {@link #commit(long)}
+     * returns for its sequence number.
+     *
+     * @param isbn ISBN as stored on the removed book
+     * @return sequence number of the record
+     * @throws IOException if the write fails
+     */
+    long logRemove(String isbn) throws IOException {
+        byte[] bytes = isbn.getBytes(StandardCharsets.UTF_8);
+        long sequence;
+        synchronized (this) {
+            ByteBuffer body = body(1 + 4 + bytes.length);
+            body.put(REMOVE);
+            putString(body, bytes);
+            sequence = append(body);
+        }
+        return syncIfDue(sequence);
+    }
+
+    /**
+     * Waits until the record with this sequence number, and every record
+     * before it, is on disk. Returns at once in relaxed mode.
+     *
+     * @param sequence sequence number from logAdd or logRemove
+     * @throws IOException if the fsync fails or the wait is interrupted
+     */
+    void commit(long sequence) throws IOException {
+        if (!relaxed) awaitSync(sequence);
+    }
+
+    /**
+     * Forces every appended record to disk.
+     *
+     * @throws IOException if the fsync fails or the wait is interrupted
+     */
+    void sync() throws IOException {
+        long sequence;
+        synchronized (this) {
+            sequence = appended;
+        }
+        awaitSync(sequence);
+    }
+
+    /**
+     * Discards every record, after their effects have been saved elsewhere.
+     *
+     * @throws IOException if truncating fails
+     */
+    synchronized void reset() throws IOException {
+        channel.truncate(HEADER);
+        channel.position(HEADER);
+        fsync.force(channel, file, true);
+        synced = appended;
+        records = 0;
+    }
+
+    /**
+     * Returns the number of records in the log, replayed ones included.
+     *
+     * @return record count
+     */
+    synchronized long records() {
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (syncer != null) syncer.shutdownNow();
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private ByteBuffer body(int size) {
+        int needed = 8 + size;
+        if (buffer.capacity() < needed) buffer = ByteBuffer.allocate(Math.max(needed, buffer.capacity() * 2));
+        buffer.clear().position(8);
+        return buffer;
+    }
+
+    /**
+     * Writes a record and returns its sequence number. Called with the lock
+     * held. If the write fails partway, the file is truncated back to the
+     * end of the previous record so later records do not follow torn bytes;
+     * if even that fails, the log rejects every further append.
+     */
+    private long append(ByteBuffer record) throws IOException {
+        if (failure != null) throw new IOException("Log is unusable after a failed write; reopen it", failure);
+        int length = record.position() - 8;
+        crc.reset();
+        crc.update(record.array(), 8, length);
+        record.putInt(0, length).putInt(4, (int) crc.getValue()).flip();
+        long start = channel.position();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+                failure = e;
+            }
+            throw e;
+        }
+        records++;
+        return ++appended;
+    }
+
+    /**
+     * In relaxed mode, syncs once {@code syncEvery} records are pending.
+     */
+    private long syncIfDue(long sequence) throws IOException {
+        if (relaxed) {
+            boolean due;
+            synchronized (this) {
+                due = sequence - synced >= syncEvery;
+            }
+            if (due) awaitSync(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * Blocks until {@code synced} covers {@code sequence}. The first caller
+     * to find no fsync in flight issues one for everything appended so far,
+     * outside the lock so other threads can keep appending; callers arriving
+     * meanwhile wait for it and, if it does not cover them, lead the next.
+     */
+    private void awaitSync(long sequence) throws IOException {
+        long target;
+        synchronized (this) {
+            while (synced < sequence && syncing) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the log to sync");
+                }
+            }
+            if (synced >= sequence) return;
+            syncing = true;
+            target = appended;
+        }
+        boolean forced = false;
+        try {
+            fsync.force(channel, file, false);
+            forced = true;
+        } finally {
+            synchronized (this) {
+                if (forced) synced = Math.max(synced, target);
+                syncing = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException e) {
+            // The next append or close retries the fsync and reports the failure.
+        }
+    }
+
+    /**
+     * Applies every intact record to {@code target} and returns the offset
+     * just past the last one. Reads go through the channel rather than a
+     * mapping, so the caller can truncate the file straight after.
+     */
+    private long replay(BookstoreAPI target) throws IOException {
+        long size = channel.size();
+        if (size < HEADER) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER).putInt(MAGIC).putInt(VERSION).flip();
+            channel.truncate(0);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            fsync.force(channel, file, true);
+            fsync.forceDirectory(file.toAbsolutePath().getParent());
+            return HEADER;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(8);
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " write-ahead log");
+        }
+        CRC32 check = new CRC32();
+        ByteBuffer body = ByteBuffer.allocate(512);
+        long position = HEADER;
+        while (size - position >= 8) {
+            readFully(header.clear(), position);
+            int length = header.getInt(0);
+            if (length <= 0 || length > size - position - 8) break;
+            if (body.capacity() < length) body = ByteBuffer.allocate(Math.max(length, body.capacity() * 2));
+            readFully(body.clear().limit(length), position + 8);
+            check.reset();
+            check.update(body.array(), 0, length);
+            if ((int) check.getValue() != header.getInt(4)) break;
+
+            byte op = body.get();
+            String isbn = getString(body);
+            if (op == ADD) {
+                String title = getString(body);
+                String author = getString(body);
+                target.add(new Book(isbn, title, author, body.getDouble(), body.getInt()));
+            } else if (op == REMOVE) {
+                target.removeByIsbn(isbn);
+            } else {
+                break;
+            }
+            records++;
+            position += 8 + length;
+        }
+        return position;
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) throw new EOFException("Log ended at " + position);
+            position += read;
+        }
+        target.flip();
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
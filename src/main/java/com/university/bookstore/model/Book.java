@@ -6,8 +6,7 @@
 package com.university.bookstore.model;
 
 import java.time.Year;
-import java.util.Objects;
-import java.util.regex.Pattern;
+import java.time.ZoneId;
 
 
 //Writing JavaDoc
@@ -35,11 +34,13 @@ import java.util.regex.Pattern;
 public final class Book {
 
     //Constants
-    private static final int MIN_YEAR = 1450;
+    /**
+     * Earliest accepted publication year.
+     */
+    public static final int MIN_YEAR = 1450;
 
-    //ISBN Validation
-    private static final Pattern ISBN_13_PATTERN = Pattern.compile("^\\d{13}$");
-    private static final Pattern ISBN_10_PATTERN = Pattern.compile("^\\d{9}[\\dX]$");
+    //Latest accepted year, refreshed when the calendar year ends
+    private static volatile YearBound yearBound = YearBound.current();
 
     //Fields
     //Declared final for immutability (defensive programming)
@@ -48,6 +49,7 @@ public final class Book {
     private final int year;
     private final double price;
     private final String isbn;
+    private final long isbnKey;
 
     /**
      * Creates a new Book with comprehensive validation
@@ -68,6 +70,58 @@ public final class Book {
         this.year = validateYear(year);
         this.price = validatePrice(price);
         this.isbn = validateISBN(isbn);
+        this.isbnKey = Isbn.key(this.isbn);
+    }
+
+    /**
+     * Creates a new Book using the ISBN-first argument order
+     *
+     * @param isbn   the International Standard Book Number (10 or 13 digits)
+     * @param title  the book title (non-null, non-blank)
+     * @param author the primary author (non-null, non-blank)
+     * @param price  the price in dollars (non-negative)
+     * @param year   the publication year (1450 to current year + 1)
+     * @throws IllegalArgumentException if any parameter is invalid
+     * @throws NullPointerException     if any string parameter is null
+     */
+    public Book(String isbn, String title, String author, double price, int year) {
+        this(title, author, year, price, isbn);
+    }
+
+    /**
+     * Creates a Book from an ISBN key, validating every field except the
+     * ISBN, which is spelled from a key that is already known to be valid
+     */
+    private Book(long isbnKey, boolean isbn10, String title, String author, double price, int year) {
+        this.title = validateStringField(title, "Title");
+        this.author = validateStringField(author, "Author");
+        this.year = validateYear(year);
+        this.price = validatePrice(price);
+        this.isbn = Isbn.format(isbnKey, isbn10);
+        this.isbnKey = isbnKey;
+    }
+
+    /**
+     * Rebuilds a Book from fields a store took from an existing Book, such as
+     * the columns of a columnar store
+     * Only the ISBN is rebuilt from its key instead of being parsed and
+     * checksummed again; title, author, price and year go through the same
+     * checks as the public constructors, so a bad value cannot produce an
+     * invalid Book
+     *
+     * @param isbnKey the {@link #getIsbnKey()} of the original book
+     * @param isbn10  true if the original ISBN had 10 characters
+     * @param title   the original title
+     * @param author  the original author
+     * @param price   the original price
+     * @param year    the original year
+     * @return a book equal to the original, with the same field values
+     * @throws IllegalArgumentException if the key cannot be spelled as requested
+     *                                  or any other parameter is invalid
+     * @throws NullPointerException     if title or author is null
+     */
+    public static Book restore(long isbnKey, boolean isbn10, String title, String author, double price, int year) {
+        return new Book(isbnKey, isbn10, title, author, price, year);
     }
 
     /**
@@ -82,24 +136,30 @@ public final class Book {
             throw new NullPointerException(fieldName + " cannot be null");
         }
 
-        //Remove empty spaces
-        if (value.trim().isEmpty()) {
+        //Remove empty spaces (trim returns the same instance when there are none)
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
             throw new IllegalArgumentException(fieldName + " cannot be empty");
         }
 
-        return value.trim();
+        return trimmed;
     }
 
     /**
      * 2. Validate publication year of the book
      * Has to fall in the range of 1450 and current year + 1
+     * The current year is cached until the end of the year instead of reading the clock and zone each time
      */
 
     private int validateYear(int year) {
-        int currentYear = Year.now().getValue();
-        if (year < MIN_YEAR || year > currentYear + 1) {
+        YearBound bound = yearBound;
+        if (System.currentTimeMillis() >= bound.expiresAt) {
+            bound = YearBound.current();
+            yearBound = bound;
+        }
+        if (year < MIN_YEAR || year > bound.maxYear) {
             throw new IllegalArgumentException(
-                    "Year must be between " + MIN_YEAR + " and " + (currentYear + 1) +
+                    "Year must be between " + MIN_YEAR + " and " + bound.maxYear +
                             ". The value provided: " + year);
         }
 
@@ -125,7 +185,9 @@ public final class Book {
     }
 
     /**4. Validate ISBN
-     * Must be either 10 or 13 digits and follow the pattern
+     * Must be either 13 digits, or 9 digits followed by a digit or X
+     * The check digit is not enforced here; see {@link #hasValidIsbnChecksum()} and {@link Isbn}
+     * Checked with plain char loops; an ISBN without dashes or surrounding spaces is returned as is
      */
     private String validateISBN(String isbn) {
         if (isbn == null) {
@@ -133,10 +195,9 @@ public final class Book {
         }
 
         //Remove dashes and trim whitespace
-        String cleaned = isbn.replaceAll("-", "").trim();
+        String cleaned = (isbn.indexOf('-') < 0 ? isbn : removeDashes(isbn)).trim();
 
-        if (!ISBN_13_PATTERN.matcher(cleaned).matches() &&
-            !ISBN_10_PATTERN.matcher(cleaned).matches()) {
+        if (!isIsbnShape(cleaned)) {
             throw new IllegalArgumentException("ISBN must be 10-digits or 13-digits. The value provided: " + isbn);
         }
 
@@ -144,6 +205,36 @@ public final class Book {
 
     }
 
+    private static String removeDashes(String value) {
+        char[] chars = new char[value.length()];
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '-') {
+                chars[length++] = c;
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static boolean isIsbnShape(String value) {
+        int length = value.length();
+        if (length != 13 && length != 10) {
+            return false;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        char last = value.charAt(length - 1);
+        return isDigit(last) || (length == 10 && last == 'X');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * The Getters for each field
      * There are 5 getters for the 5 fields
@@ -190,6 +281,31 @@ public final class Book {
         return isbn;
     }
 
+    /**
+     * Alias of {@link #getISBN()} kept for callers using the camel-case name
+     * @return the ISBN
+     */
+    public String getIsbn() {
+        return isbn;
+    }
+
+    /**
+     * Gets the numeric ISBN key used for equality, hashing and indexes
+     * A valid ISBN-10 has the same key as its ISBN-13 form
+     * @return the key from {@link Isbn#key(CharSequence)}
+     */
+    public long getIsbnKey() {
+        return isbnKey;
+    }
+
+    /**
+     * Checks the ISBN check digit
+     * @return true if the ISBN-10 or ISBN-13 checksum is correct
+     */
+    public boolean hasValidIsbnChecksum() {
+        return Isbn.isValidKey(isbnKey);
+    }
+
     /**
      * Useful Methods: equals, hashCode, toString
      */
@@ -197,7 +313,7 @@ public final class Book {
     /**
      * Equals method
      * Compares this book to another object for equality
-     * They are considered equal if they have the same ISBN
+     * They are considered equal if they have the same ISBN key, so an ISBN-10 equals its ISBN-13 form
      * @param obj the object to compare with
      * @return true if the other object is a Book with the same ISBN, false otherwise
      */
@@ -210,17 +326,17 @@ public final class Book {
             return false;
         }
         Book other = (Book) obj;
-        return isbn.equals(other.isbn);
+        return isbnKey == other.isbnKey;
     }
 
     /**
      * Hash code method
-     * Generates hash code based on ISBN
-     * @return hash code of the ISBN
+     * Generates hash code based on the ISBN key
+     * @return hash code of the ISBN key
      */
     @Override
     public int hashCode() {
-        return Objects.hash(isbn);
+        return Long.hashCode(isbnKey);
     }
 
     /**
@@ -234,4 +350,25 @@ public final class Book {
                 title, author, year, price, isbn);
     }
 
+    /**
+     * Latest accepted publication year (current year + 1) and the moment,
+     * the start of next year in the default time zone, after which it must be recomputed
+     */
+    private static final class YearBound {
+        private final int maxYear;
+        private final long expiresAt;
+
+        private YearBound(int maxYear, long expiresAt) {
+            this.maxYear = maxYear;
+            this.expiresAt = expiresAt;
+        }
+
+        private static YearBound current() {
+            ZoneId zone = ZoneId.systemDefault();
+            Year year = Year.now(zone);
+            long expiresAt = year.plusYears(1).atDay(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            return new YearBound(year.getValue() + 1, expiresAt);
+        }
+    }
+
 }
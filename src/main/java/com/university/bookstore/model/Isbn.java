@@ -0,0 +1,194 @@
+package com.university.bookstore.model;
+
+/**
+ * ISBN checksums, ISBN-10 to ISBN-13 normalization and compact numeric keys
+ *
+ * <p>
+ *     Every ISBN a Book accepts maps to a {@code long} key, so indexes and
+ *     duplicate checks can hash and compare primitives instead of Strings:
+ * </p>
+ * <ul>
+ *     <li>a 13-digit ISBN is its own numeric value</li>
+ *     <li>a valid ISBN-10 is keyed as its ISBN-13 equivalent (978 prefix),
+ *     so both spellings of the same book share one key</li>
+ *     <li>a 10-character ISBN with a wrong check digit is kept distinct
+ *     with bit 62 set</li>
+ * </ul>
+ *
+ * <p>
+ *     Like the Book constructor, parsing ignores dashes and surrounding
+ *     whitespace. Keys are never negative; {@link #NO_KEY} marks input that
+ *     is not ISBN shaped.
+ * </p>
+ */
+public final class Isbn {
+
+    /**
+     * Returned by {@link #key(CharSequence)} for null or malformed input
+     */
+    public static final long NO_KEY = -1L;
+
+    private static final long ISBN_13_LIMIT = 10_000_000_000_000L;
+    private static final long PREFIX_978 = 978_000_000_000L;
+    private static final long BAD_ISBN_10 = 1L << 62;
+
+    private Isbn() {
+    }
+
+    /**
+     * Computes the numeric key of an ISBN
+     *
+     * @param isbn ISBN-10 or ISBN-13, optionally with dashes and surrounding whitespace
+     * @return the key, or {@link #NO_KEY} if the input is null or not ISBN shaped
+     */
+    public static long key(CharSequence isbn) {
+        if (isbn == null) {
+            return NO_KEY;
+        }
+
+        long value = 0;
+        int digits = 0;
+        boolean checkX = false;
+        boolean ended = false;
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c <= ' ') {
+                ended = digits > 0;
+                continue;
+            }
+            if (ended || checkX) {
+                return NO_KEY;
+            }
+            if (c >= '0' && c <= '9') {
+                if (++digits > 13) {
+                    return NO_KEY;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c == 'X' && digits == 9) {
+                digits++;
+                checkX = true;
+            } else {
+                return NO_KEY;
+            }
+        }
+
+        if (digits == 13) {
+            return value;
+        }
+        if (digits != 10) {
+            return NO_KEY;
+        }
+        long body = checkX ? value : value / 10;
+        int check = checkX ? 10 : (int) (value % 10);
+        if (isbn10CheckDigit(body) != check) {
+            return BAD_ISBN_10 | (body * 11 + check);
+        }
+        long twelve = PREFIX_978 + body;
+        return twelve * 10 + isbn13CheckDigit(twelve);
+    }
+
+    /**
+     * Checks that an ISBN is well formed and its check digit is correct
+     *
+     * @param isbn ISBN-10 or ISBN-13
+     * @return true if the checksum is valid
+     */
+    public static boolean isValid(CharSequence isbn) {
+        return isValidKey(key(isbn));
+    }
+
+    /**
+     * Checks that a key belongs to an ISBN with a correct check digit
+     *
+     * @param key key from {@link #key(CharSequence)}
+     * @return true if the key is a checksum-valid ISBN-13
+     */
+    public static boolean isValidKey(long key) {
+        return key >= 0 && key < ISBN_13_LIMIT && isbn13CheckDigit(key / 10) == key % 10;
+    }
+
+    /**
+     * Normalizes an ISBN to 13 digits, converting ISBN-10 to the 978 prefix
+     *
+     * @param isbn ISBN-10 or ISBN-13
+     * @return 13-digit ISBN without dashes
+     * @throws IllegalArgumentException if the ISBN is malformed or its check digit is wrong
+     */
+    public static String toIsbn13(CharSequence isbn) {
+        long key = key(isbn);
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("ISBN checksum is invalid. The value provided: " + isbn);
+        }
+        return digits(key, 13);
+    }
+
+    /**
+     * Rebuilds the ISBN a Book stores from its key
+     *
+     * @param key key from {@link #key(CharSequence)}
+     * @param isbn10 true if the ISBN was spelled with 10 characters
+     * @return the ISBN without dashes, as {@link Book#getISBN()} returns it
+     * @throws IllegalArgumentException if the key cannot be spelled that way
+     */
+    public static String format(long key, boolean isbn10) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Not an ISBN key: " + key);
+        }
+        if (!isbn10) {
+            if (key >= ISBN_13_LIMIT) {
+                throw new IllegalArgumentException("Not an ISBN-13 key: " + key);
+            }
+            return digits(key, 13);
+        }
+
+        long body;
+        int check;
+        if ((key & BAD_ISBN_10) != 0) {
+            body = (key ^ BAD_ISBN_10) / 11;
+            check = (int) ((key ^ BAD_ISBN_10) % 11);
+        } else {
+            body = key / 10 - PREFIX_978;
+            if (body < 0 || body >= 1_000_000_000L) {
+                throw new IllegalArgumentException("Not an ISBN-10 key: " + key);
+            }
+            check = isbn10CheckDigit(body);
+        }
+        return digits(body, 9) + (check == 10 ? "X" : String.valueOf(check));
+    }
+
+    private static String digits(long value, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * ISBN-10 check digit (10 stands for X) of the first nine digits
+     */
+    static int isbn10CheckDigit(long nineDigits) {
+        int sum = 0;
+        for (int weight = 2; weight <= 10; weight++) {
+            sum += weight * (int) (nineDigits % 10);
+            nineDigits /= 10;
+        }
+        return (11 - sum % 11) % 11;
+    }
+
+    /**
+     * ISBN-13 check digit of the first twelve digits
+     */
+    static int isbn13CheckDigit(long twelveDigits) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (i % 2 == 0 ? 3 : 1) * (int) (twelveDigits % 10);
+            twelveDigits /= 10;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
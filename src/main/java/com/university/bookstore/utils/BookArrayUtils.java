@@ -9,14 +9,36 @@ package com.university.bookstore.utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import com.university.bookstore.model.Book;
 import java.util.*;
 
 public final class BookArrayUtils {
+    /** Below this length the sorts use a comparator; radix and counting setup would dominate. */
+    static final int SMALL_SORT_THRESHOLD = 64;
+
+    /** From this length sortByPrice uses Arrays.parallelSort if the common pool has more than one thread. */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 21;
+
+    private static final Comparator<Book> PRICE_ORDER = (Book x, Book y) -> {
+        if (x == null && y == null) return 0;
+        if (x == null) return 1;
+        if (y == null) return -1;
+        return Double.compare(x.getPrice(), y.getPrice());
+    };
+
+    private static final Comparator<Book> YEAR_ORDER = (Book x, Book y) -> {
+        if (x == null && y == null) return 0;
+        if (x == null) return 1;
+        if (y == null) return -1;
+        return Integer.compare(x.getYear(), y.getYear());
+    };
+
     private BookArrayUtils() {
         throw new Error("Unresolved compilation problems: \n\tThe declared package \"com.university.bookstore.utils\" does not match the expected package \"src.main.java.com.university.bookstore.utils\"\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import java.util cannot be resolved\n\tThe import com cannot be resolved\n\tImplicit super constructor Object() is undefined. Must explicitly invoke another constructor\n\tUnsupportedOperationException cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tString cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tIllegalArgumentException cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tArrays cannot be resolved\n\tBook cannot be resolved to a type\n\tArrays cannot be resolved\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tSystem cannot be resolved\n\tSystem cannot be resolved\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tSet cannot be resolved to a type\n\tString cannot be resolved to a type\n\tHashSet cannot be resolved to a type\n\tList cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tArrayList cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tStream cannot be resolved\n\tBook cannot be resolved to a type\n\tMap cannot be resolved to a type\n\tInteger cannot be resolved to a type\n\tInteger cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tMap cannot be resolved to a type\n\tInteger cannot be resolved to a type\n\tInteger cannot be resolved to a type\n\tTreeMap cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tInteger cannot be resolved\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n\tBook cannot be resolved to a type\n");
     }
@@ -60,76 +82,151 @@ public final class BookArrayUtils {
             return new Book[0];
         }
 
-        int count = 0;
+        // One pass into a scratch array, then trim it to the matches
+        Book[] filteredList = new Book[var0.length];
+        int hold = 0;
 
         for (Book var2 : var0) {
             if (var2 != null && var2.getPrice() <= var1) {
-                count++;
-            }
-        }
-
-        Book[] filteredList = new Book[count];
-        int hold = 0;
-
-        for (Book var3 : var0) {
-            if (var3 != null && var3.getPrice() <= var1) {
-                filteredList[hold] = var3;
+                filteredList[hold] = var2;
                 hold++;
             }
         }
 
-        return filteredList;
+        return hold == filteredList.length ? filteredList : Arrays.copyOf(filteredList, hold);
     }
 
     public static Book[] filterByDecade(Book[] var0, int var1) {
 
         if (var0 == null) return new Book[0];
 
+        // One pass into a scratch array, then trim it to the matches
         int finalYear = var1 + 9;
-        int count = 0;
-        for (Book var2 : var0) {
-            if (var2 != null && var2.getYear() >= var1 && var2.getYear() <= finalYear) {
-                count++;
-            }
-        }
-
-        Book[] filteredList = new Book[count];
+        Book[] filteredList = new Book[var0.length];
         int hold = 0;
 
-        for (Book var3 : var0) {
-            if (var3 != null && var3.getYear() >= var1 && var3.getYear() <= finalYear) {
-                filteredList[hold] = var3;
+        for (Book var2 : var0) {
+            if (var2 != null && var2.getYear() >= var1 && var2.getYear() <= finalYear) {
+                filteredList[hold] = var2;
                 hold++;
             }
         }
 
-        return filteredList;
+        return hold == filteredList.length ? filteredList : Arrays.copyOf(filteredList, hold);
     }
 
+    // Sorts by price, nulls last. Every path is stable: short arrays use the
+    // comparator, large ones Arrays.parallelSort when there are cores to use,
+    // and the rest an LSD radix sort on the price bits.
     public static void sortByPrice(Book[] var0) {
         if (var0 == null || var0.length <= 1) {
             return;
         }
 
-        Arrays.sort(var0, (Book x, Book y) -> {
-            if (x == null && y == null) return 0;
-            if (x == null) return 1;
-            if (y == null) return -1;
-            return Double.compare(x.getPrice(), y.getPrice());
-        });
+        if (var0.length < SMALL_SORT_THRESHOLD) {
+            Arrays.sort(var0, PRICE_ORDER);
+        } else if (var0.length >= PARALLEL_SORT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            Arrays.parallelSort(var0, PRICE_ORDER);
+        } else {
+            radixSortByPrice(var0);
+        }
     }
 
+    // Sorts by year, nulls last. Years span a few hundred values at most, so
+    // anything but a short array is counting-sorted, which is stable.
     public static void sortByYear(Book[] var0) {
         if (var0 == null || var0.length <= 1) {
             return;
         }
 
-        Arrays.sort(var0, (Book x, Book y) -> {
-            if (x == null && y == null) return 0;
-            if (x == null) return 1;
-            if (y == null) return -1;
-            return Integer.compare(x.getYear(), y.getYear());
-        });
+        if (var0.length < SMALL_SORT_THRESHOLD) {
+            Arrays.sort(var0, YEAR_ORDER);
+        } else {
+            countingSortByYear(var0);
+        }
+    }
+
+    /**
+     * Sorts the non-null books by the bits of their price, eight bits per
+     * pass from the least significant byte, and moves the nulls to the end.
+     * Flipping the sign bit of positive prices and every bit of negative
+     * ones makes the unsigned order of the bits match Double.compare. All
+     * eight digit histograms are counted in one pass, and a digit that every
+     * key shares is skipped.
+     */
+    private static void radixSortByPrice(Book[] books) {
+        long[] keys = new long[books.length];
+        Book[] sorted = new Book[books.length];
+        int n = 0;
+        for (Book book : books) {
+            if (book != null) {
+                long bits = Double.doubleToLongBits(book.getPrice());
+                keys[n] = bits ^ (bits >> 63 | Long.MIN_VALUE);
+                sorted[n++] = book;
+            }
+        }
+
+        int[][] counts = new int[8][256];
+        for (int i = 0; i < n; i++) {
+            long key = keys[i];
+            for (int digit = 0; digit < 8; digit++) {
+                counts[digit][(int) (key >>> (digit << 3)) & 0xFF]++;
+            }
+        }
+
+        long[] keyBuffer = new long[books.length];
+        Book[] bookBuffer = new Book[books.length];
+        for (int digit = 0; digit < 8; digit++) {
+            int shift = digit << 3;
+            int[] starts = counts[digit];
+            if (n == 0 || starts[(int) (keys[0] >>> shift) & 0xFF] == n) continue;
+            for (int d = 0, total = 0; d < 256; d++) {
+                int count = starts[d];
+                starts[d] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = starts[(int) (keys[i] >>> shift) & 0xFF]++;
+                keyBuffer[slot] = keys[i];
+                bookBuffer[slot] = sorted[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            Book[] swapBooks = sorted;
+            sorted = bookBuffer;
+            bookBuffer = swapBooks;
+        }
+        System.arraycopy(sorted, 0, books, 0, books.length);
+    }
+
+    /**
+     * Places each non-null book after every book of an earlier year and
+     * after the earlier books of its own year, then the nulls.
+     */
+    private static void countingSortByYear(Book[] books) {
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        for (Book book : books) {
+            if (book != null) {
+                minYear = Math.min(minYear, book.getYear());
+                maxYear = Math.max(maxYear, book.getYear());
+            }
+        }
+        if (minYear > maxYear) return;
+
+        int[] starts = new int[maxYear - minYear + 2];
+        for (Book book : books) {
+            if (book != null) starts[book.getYear() - minYear + 1]++;
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        Book[] sorted = new Book[books.length];
+        for (Book book : books) {
+            if (book != null) sorted[starts[book.getYear() - minYear]++] = book;
+        }
+        System.arraycopy(sorted, 0, books, 0, books.length);
     }
 
     public static double averagePrice(Book[] var0) {
@@ -181,11 +278,11 @@ public final class BookArrayUtils {
     public static Book[] removeDuplicates(Book[] var0) {
         if (var0 == null) return new Book[0];
 
-        Set<String> isbns = new HashSet<String>();
+        LongIntHashMap isbns = new LongIntHashMap(var0.length);
         List<Book> newBooks = new ArrayList<Book>();
 
         for (Book var1 : var0) {
-            if (var1 != null && isbns.add(var1.getISBN())) {
+            if (var1 != null && isbns.putIfAbsent(var1.getIsbnKey(), 0) == LongIntHashMap.MISSING) {
                 newBooks.add(var1);
             }
         }
@@ -197,30 +294,39 @@ public final class BookArrayUtils {
     public static Book[] filterByYearRange(Book[] var0, int start, int end) {
         if (var0 == null) return new Book[0];
         if (start > end) return new Book[0];
-        List<Book> newBooks = new ArrayList<Book>();
+        Book[] filteredList = new Book[var0.length];
+        int hold = 0;
 
         for (Book var1 : var0) {
             if (var1 != null && var1.getYear() >= start && var1.getYear() <= end) {
-                newBooks.add(var1);
+                filteredList[hold] = var1;
+                hold++;
             }
         }
-        return newBooks.toArray(new Book[0]);
+        return hold == filteredList.length ? filteredList : Arrays.copyOf(filteredList, hold);
     }
 
     public static Map<Integer, Integer> countByDecade(Book[] var0) {
         Map<Integer, Integer> decade = new HashMap<Integer, Integer>();
 
         if (var0 != null) {
+            // Count into an int[] indexed by decade; box once per decade, not per book
+            int firstDecade = Book.MIN_YEAR / 10;
+            int[] counts = new int[64];
             for (Book var1 : var0) {
                 if (var1 != null) {
-                    int yearHold = (var1.getYear()/10) * 10;
-                    decade.merge(yearHold, 1, Integer::sum);
+                    int slot = var1.getYear() / 10 - firstDecade;
+                    if (slot >= counts.length) counts = Arrays.copyOf(counts, Math.max(slot + 1, counts.length * 2));
+                    counts[slot]++;
                 }
             }
+            for (int slot = 0; slot < counts.length; slot++) {
+                if (counts[slot] > 0) decade.put((firstDecade + slot) * 10, counts[slot]);
+            }
         }
 
         return decade;
-        }
+    }
 
     public static Book findLongestTitle(Book[] var0) {
         if (var0 == null) return null;
@@ -0,0 +1,318 @@
+package com.university.bookstore.utils;
+
+import java.util.function.Predicate;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Filter result over a stable book array: bit {@code i} is set when row
+ * {@code i} matches.
+ *
+ * <p>The bits live in a {@code long[]}, one word per 64 rows. The filter
+ * factories make one pass over a {@code Book[]} or over a column from
+ * {@link BookColumns}, OR-ing each comparison result into a register-held
+ * word and storing the word once per 64 rows. Comparisons are combined
+ * with non-short-circuit {@code &} and become a bit without a branch, so
+ * the column factories are branch-free. The {@code Book[]} factories still
+ * branch to skip null books, which is predicted perfectly when there are
+ * none, and {@link #matching} adds whatever branches its predicate takes.
+ * {@link #and}, {@link #or}, {@link #andNot} and {@link #not} then combine
+ * filters a word at a time, and
+ * {@link #materialize} allocates the one exactly sized {@code Book[]} of the
+ * result. Three chained filters over N books cost three passes plus N/64
+ * word operations per combinator, instead of an intermediate array per
+ * filter.</p>
+ *
+ * <p>Prefer the column factories when combining filters: a factory over a
+ * {@code Book[]} dereferences every book on every pass, while a chain of
+ * BookArrayUtils filters only revisits the survivors of the previous one.</p>
+ *
+ * <p>Null books never match a filter. The combinators modify this set in
+ * place and return it; both sets must cover the same number of rows. This
+ * class is not thread-safe.</p>
+ */
+public final class BookBitSet {
+
+    private final long[] words;
+    private final int size;
+
+    /**
+     * Creates a set over {@code size} rows with no row selected.
+     *
+     * @param size number of rows
+     * @throws IllegalArgumentException if size is negative
+     */
+    public BookBitSet(int size) {
+        if (size < 0) throw new IllegalArgumentException("Size cannot be negative");
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Creates a set over {@code size} rows with every row selected.
+     *
+     * @param size number of rows
+     * @return full set
+     */
+    public static BookBitSet all(int size) {
+        return new BookBitSet(size).not();
+    }
+
+    /**
+     * Selects the books matching an arbitrary predicate.
+     *
+     * @param books books to test
+     * @param predicate condition on non-null books
+     * @return matching rows
+     */
+    public static BookBitSet matching(Book[] books, Predicate<Book> predicate) {
+        BookBitSet set = new BookBitSet(books.length);
+        long[] words = set.words;
+        for (int base = 0; base < books.length; base += 64) {
+            int limit = Math.min(base + 64, books.length);
+            long word = 0L;
+            for (int i = base; i < limit; i++) {
+                Book book = books[i];
+                if (book == null) continue;
+                word |= (predicate.test(book) ? 1L : 0L) << i;
+            }
+            words[base >>> 6] = word;
+        }
+        return set;
+    }
+
+    /**
+     * Selects the books priced at most {@code maxPrice}.
+     *
+     * @param books books to test
+     * @param maxPrice inclusive upper bound
+     * @return matching rows
+     * @throws IllegalArgumentException if maxPrice is negative
+     */
+    public static BookBitSet priceAtMost(Book[] books, double maxPrice) {
+        if (maxPrice < 0) throw new IllegalArgumentException("maxPrice cannot be negative");
+        BookBitSet set = new BookBitSet(books.length);
+        long[] words = set.words;
+        for (int base = 0; base < books.length; base += 64) {
+            int limit = Math.min(base + 64, books.length);
+            long word = 0L;
+            for (int i = base; i < limit; i++) {
+                Book book = books[i];
+                if (book == null) continue;
+                word |= (book.getPrice() <= maxPrice ? 1L : 0L) << i;
+            }
+            words[base >>> 6] = word;
+        }
+        return set;
+    }
+
+    /**
+     * Selects the rows of a price column at most {@code maxPrice}.
+     *
+     * @param prices price column
+     * @param maxPrice inclusive upper bound
+     * @return matching rows
+     * @throws IllegalArgumentException if maxPrice is negative
+     */
+    public static BookBitSet priceAtMost(double[] prices, double maxPrice) {
+        if (maxPrice < 0) throw new IllegalArgumentException("maxPrice cannot be negative");
+        BookBitSet set = new BookBitSet(prices.length);
+        long[] words = set.words;
+        for (int base = 0; base < prices.length; base += 64) {
+            int limit = Math.min(base + 64, prices.length);
+            long word = 0L;
+            for (int i = base; i < limit; i++) {
+                word |= (prices[i] <= maxPrice ? 1L : 0L) << i;
+            }
+            words[base >>> 6] = word;
+        }
+        return set;
+    }
+
+    /**
+     * Selects the books published from {@code start} to {@code end} inclusive.
+     *
+     * @param books books to test
+     * @param start first year
+     * @param end last year
+     * @return matching rows, none if start is after end
+     */
+    public static BookBitSet yearBetween(Book[] books, int start, int end) {
+        BookBitSet set = new BookBitSet(books.length);
+        long[] words = set.words;
+        for (int base = 0; base < books.length; base += 64) {
+            int limit = Math.min(base + 64, books.length);
+            long word = 0L;
+            for (int i = base; i < limit; i++) {
+                Book book = books[i];
+                if (book == null) continue;
+                int year = book.getYear();
+                word |= (year >= start & year <= end ? 1L : 0L) << i;
+            }
+            words[base >>> 6] = word;
+        }
+        return set;
+    }
+
+    /**
+     * Selects the rows of a year column from {@code start} to {@code end}
+     * inclusive.
+     *
+     * @param years year column
+     * @param start first year
+     * @param end last year
+     * @return matching rows, none if start is after end
+     */
+    public static BookBitSet yearBetween(int[] years, int start, int end) {
+        BookBitSet set = new BookBitSet(years.length);
+        long[] words = set.words;
+        for (int base = 0; base < years.length; base += 64) {
+            int limit = Math.min(base + 64, years.length);
+            long word = 0L;
+            for (int i = base; i < limit; i++) {
+                word |= (years[i] >= start & years[i] <= end ? 1L : 0L) << i;
+            }
+            words[base >>> 6] = word;
+        }
+        return set;
+    }
+
+    /**
+     * Selects the books published in a decade.
+     *
+     * @param books books to test
+     * @param decade first year of the decade, e.g. 1990
+     * @return matching rows
+     */
+    public static BookBitSet decade(Book[] books, int decade) {
+        return yearBetween(books, decade, decade + 9);
+    }
+
+    /**
+     * Returns the number of rows the set covers.
+     *
+     * @return row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a row is selected.
+     *
+     * @param row row id
+     * @return true if selected
+     * @throws IndexOutOfBoundsException if row is outside the set
+     */
+    public boolean get(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        return (words[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Counts the selected rows.
+     *
+     * @return selected row count
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Keeps only the rows also selected in {@code other}.
+     *
+     * @param other set over the same rows
+     * @return this set
+     */
+    public BookBitSet and(BookBitSet other) {
+        checkSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Adds the rows selected in {@code other}.
+     *
+     * @param other set over the same rows
+     * @return this set
+     */
+    public BookBitSet or(BookBitSet other) {
+        checkSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Drops the rows selected in {@code other}.
+     *
+     * @param other set over the same rows
+     * @return this set
+     */
+    public BookBitSet andNot(BookBitSet other) {
+        checkSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Inverts every row. Rows holding null books become selected too.
+     *
+     * @return this set
+     */
+    public BookBitSet not() {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~words[i];
+        }
+        if ((size & 63) != 0) words[words.length - 1] &= (1L << size) - 1;
+        return this;
+    }
+
+    /**
+     * Returns the selected row ids.
+     *
+     * @return ascending row ids
+     */
+    public int[] toRows() {
+        int[] rows = new int[cardinality()];
+        int count = 0;
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                rows[count++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the selected books in one exactly sized allocation.
+     *
+     * @param books the array the set was built over
+     * @return selected books, in array order
+     * @throws IllegalArgumentException if the array length differs from the set size
+     */
+    public Book[] materialize(Book[] books) {
+        if (books.length != size) throw new IllegalArgumentException("Array has " + books.length + " rows, set has " + size);
+        Book[] selected = new Book[cardinality()];
+        int count = 0;
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                selected[count++] = books[(w << 6) + Long.numberOfTrailingZeros(word)];
+            }
+        }
+        return selected;
+    }
+
+    private void checkSize(BookBitSet other) {
+        if (other.size != size) throw new IllegalArgumentException("Sets cover " + size + " and " + other.size + " rows");
+    }
+}
@@ -0,0 +1,270 @@
+package com.university.bookstore.utils;
+
+import java.util.Arrays;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Columnar companions of the {@link BookArrayUtils} kernels, working on a
+ * {@code double[]} of prices and an {@code int[]} of years instead of
+ * {@code Book[]}.
+ *
+ * <p>Row {@code i} of every column describes the same book; {@link #prices}
+ * and {@link #years} extract the columns once from a book array. Each kernel
+ * reads one contiguous primitive array rather than dereferencing a Book per
+ * row, and filters return {@code int[]} row ids (a selection vector) instead
+ * of new Book arrays. Every kernel also has a variant that only visits the
+ * rows of a selection vector, so filters can be chained and the survivors
+ * materialised once with {@link #gather}.</p>
+ *
+ * <p>The loops are shaped for C2: counted int loops over one array with no
+ * calls, branch-free counting and compaction, and Math.min reductions, which
+ * C2 unrolls and, for the integer loops, auto-vectorizes. Sums of doubles
+ * cannot be vectorized without reordering the additions, so averagePrice
+ * keeps four independent accumulators instead; its result may differ from
+ * a left-to-right sum in the last bits.</p>
+ *
+ * <p>Unlike BookArrayUtils, the columns have no holes: extracting them from
+ * an array with null books throws NullPointerException.</p>
+ */
+public final class BookColumns {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private BookColumns() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Extracts the price column.
+     *
+     * @param books books, none null
+     * @return price of each book, by row
+     */
+    public static double[] prices(Book[] books) {
+        double[] prices = new double[books.length];
+        for (int i = 0; i < books.length; i++) {
+            prices[i] = books[i].getPrice();
+        }
+        return prices;
+    }
+
+    /**
+     * Extracts the year column.
+     *
+     * @param books books, none null
+     * @return publication year of each book, by row
+     */
+    public static int[] years(Book[] books) {
+        int[] years = new int[books.length];
+        for (int i = 0; i < books.length; i++) {
+            years[i] = books[i].getYear();
+        }
+        return years;
+    }
+
+    /**
+     * Returns the books at the given rows.
+     *
+     * @param books books the columns were extracted from
+     * @param rows selection vector
+     * @return new array of the selected books, in selection order
+     */
+    public static Book[] gather(Book[] books, int[] rows) {
+        Book[] selected = new Book[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            selected[i] = books[rows[i]];
+        }
+        return selected;
+    }
+
+    /**
+     * Counts rows whose year is before {@code year}.
+     *
+     * @param years year column
+     * @param year exclusive upper bound
+     * @return row count
+     */
+    public static int countBeforeYear(int[] years, int year) {
+        int count = 0;
+        for (int i = 0; i < years.length; i++) {
+            count += years[i] < year ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Counts selected rows whose year is before {@code year}.
+     *
+     * @param years year column
+     * @param rows selection vector
+     * @param year exclusive upper bound
+     * @return row count
+     */
+    public static int countBeforeYear(int[] years, int[] rows, int year) {
+        int count = 0;
+        for (int i = 0; i < rows.length; i++) {
+            count += years[rows[i]] < year ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Averages the price column.
+     *
+     * @param prices price column
+     * @return mean price, 0.0 if there are no rows
+     */
+    public static double averagePrice(double[] prices) {
+        int n = prices.length;
+        if (n == 0) return 0.0;
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = 0;
+        for (; i + 3 < n; i += 4) {
+            s0 += prices[i];
+            s1 += prices[i + 1];
+            s2 += prices[i + 2];
+            s3 += prices[i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += prices[i];
+        }
+        return ((s0 + s1) + (s2 + s3)) / n;
+    }
+
+    /**
+     * Averages the prices of the selected rows.
+     *
+     * @param prices price column
+     * @param rows selection vector
+     * @return mean price, 0.0 if no rows are selected
+     */
+    public static double averagePrice(double[] prices, int[] rows) {
+        if (rows.length == 0) return 0.0;
+        double sum = 0.0;
+        for (int i = 0; i < rows.length; i++) {
+            sum += prices[rows[i]];
+        }
+        return sum / rows.length;
+    }
+
+    /**
+     * Selects rows whose price is at most {@code maxPrice}.
+     *
+     * @param prices price column
+     * @param maxPrice inclusive upper bound
+     * @return ascending row ids
+     * @throws IllegalArgumentException if maxPrice is negative
+     */
+    public static int[] filterPriceAtMost(double[] prices, double maxPrice) {
+        if (maxPrice < 0) throw new IllegalArgumentException("maxPrice cannot be negative");
+        int[] rows = new int[prices.length];
+        int count = 0;
+        for (int i = 0; i < prices.length; i++) {
+            rows[count] = i;
+            count += prices[i] <= maxPrice ? 1 : 0;
+        }
+        return trim(rows, count);
+    }
+
+    /**
+     * Keeps the selected rows whose price is at most {@code maxPrice}.
+     *
+     * @param prices price column
+     * @param rows selection vector
+     * @param maxPrice inclusive upper bound
+     * @return surviving row ids, in selection order
+     * @throws IllegalArgumentException if maxPrice is negative
+     */
+    public static int[] filterPriceAtMost(double[] prices, int[] rows, double maxPrice) {
+        if (maxPrice < 0) throw new IllegalArgumentException("maxPrice cannot be negative");
+        int[] kept = new int[rows.length];
+        int count = 0;
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            kept[count] = row;
+            count += prices[row] <= maxPrice ? 1 : 0;
+        }
+        return trim(kept, count);
+    }
+
+    /**
+     * Selects rows whose year is from {@code start} to {@code end} inclusive.
+     *
+     * @param years year column
+     * @param start first year
+     * @param end last year
+     * @return ascending row ids, empty if start is after end
+     */
+    public static int[] filterByYearRange(int[] years, int start, int end) {
+        if (start > end) return NO_ROWS;
+        int[] rows = new int[years.length];
+        int count = 0;
+        for (int i = 0; i < years.length; i++) {
+            rows[count] = i;
+            count += years[i] >= start & years[i] <= end ? 1 : 0;
+        }
+        return trim(rows, count);
+    }
+
+    /**
+     * Keeps the selected rows whose year is from {@code start} to {@code end}
+     * inclusive.
+     *
+     * @param years year column
+     * @param rows selection vector
+     * @param start first year
+     * @param end last year
+     * @return surviving row ids, in selection order
+     */
+    public static int[] filterByYearRange(int[] years, int[] rows, int start, int end) {
+        if (start > end) return NO_ROWS;
+        int[] kept = new int[rows.length];
+        int count = 0;
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            kept[count] = row;
+            count += years[row] >= start & years[row] <= end ? 1 : 0;
+        }
+        return trim(kept, count);
+    }
+
+    /**
+     * Finds the first row with the earliest year.
+     *
+     * @param years year column
+     * @return row id, or -1 if there are no rows
+     */
+    public static int findOldest(int[] years) {
+        if (years.length == 0) return -1;
+        int oldest = Integer.MAX_VALUE;
+        for (int i = 0; i < years.length; i++) {
+            oldest = Math.min(oldest, years[i]);
+        }
+        for (int i = 0; ; i++) {
+            if (years[i] == oldest) return i;
+        }
+    }
+
+    /**
+     * Finds the first selected row with the earliest year.
+     *
+     * @param years year column
+     * @param rows selection vector
+     * @return row id, or -1 if no rows are selected
+     */
+    public static int findOldest(int[] years, int[] rows) {
+        int oldest = -1;
+        for (int i = 0; i < rows.length; i++) {
+            if (oldest < 0 || years[rows[i]] < years[oldest]) oldest = rows[i];
+        }
+        return oldest;
+    }
+
+    private static int[] trim(int[] rows, int count) {
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+}
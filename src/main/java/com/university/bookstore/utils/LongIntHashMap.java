@@ -0,0 +1,200 @@
+package com.university.bookstore.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code long} keys to
+ * {@code int} values, used to index books by ISBN key.
+ *
+ * <p>Keys and values live in two parallel primitive arrays probed linearly,
+ * so an entry costs 12 bytes per slot with no boxing and no per-entry
+ * object, and a lookup reads consecutive array slots instead of following
+ * bucket pointers. The table doubles when more than half full. Removal
+ * shifts the following entries of the probe run back instead of leaving
+ * tombstones, so lookups never slow down after heavy churn.</p>
+ *
+ * <p>Keys must be non-negative, as ISBN keys are; {@link #MISSING} (-1) is
+ * returned for absent keys. This class is not thread-safe.</p>
+ */
+public final class LongIntHashMap {
+
+    /**
+     * Value returned for keys that are not in the map.
+     */
+    public static final int MISSING = -1;
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map sized to hold {@code expected} entries without
+     * resizing.
+     *
+     * @param expected expected number of entries
+     */
+    public LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(expected * 2, 16) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value mapped to {@code key}.
+     *
+     * @param key key to look up
+     * @return the value, or {@link #MISSING}
+     */
+    public int get(long key) {
+        if (key < 0) return MISSING;
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long k = keys[slot];
+            if (k == key) return values[slot];
+            if (k == EMPTY) return MISSING;
+        }
+    }
+
+    /**
+     * Checks whether {@code key} is mapped.
+     *
+     * @param key key to look up
+     * @return true if present
+     */
+    public boolean containsKey(long key) {
+        return get(key) != MISSING;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any previous value.
+     *
+     * @param key non-negative key
+     * @param value value to store
+     * @return the previous value, or {@link #MISSING}
+     * @throws IllegalArgumentException if the key is negative
+     */
+    public int put(long key, int value) {
+        return insert(key, value, true);
+    }
+
+    /**
+     * Maps {@code key} to {@code value} unless the key is already present.
+     *
+     * @param key non-negative key
+     * @param value value to store
+     * @return the existing value, or {@link #MISSING} if the value was stored
+     * @throws IllegalArgumentException if the key is negative
+     */
+    public int putIfAbsent(long key, int value) {
+        return insert(key, value, false);
+    }
+
+    /**
+     * Removes {@code key} from the map.
+     *
+     * @param key key to remove
+     * @return the removed value, or {@link #MISSING}
+     */
+    public int remove(long key) {
+        if (key < 0) return MISSING;
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) return MISSING;
+            slot = (slot + 1) & mask;
+        }
+        int removed = values[slot];
+        size--;
+
+        // Backward-shift deletion: move later entries of the run into the gap
+        // when their home slot does not lie between the gap and themselves.
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        return removed;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map is empty.
+     *
+     * @return true if there are no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private int insert(long key, int value, boolean replace) {
+        if (key < 0) throw new IllegalArgumentException("Key cannot be negative: " + key);
+        int slot = slot(key);
+        for (long k = keys[slot]; k != EMPTY; k = keys[slot]) {
+            if (k == key) {
+                int previous = values[slot];
+                if (replace) values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) resize();
+        return MISSING;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
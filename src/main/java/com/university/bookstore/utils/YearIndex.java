@@ -0,0 +1,225 @@
+package com.university.bookstore.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.university.bookstore.model.Book;
+
+/**
+ * Dense index of books by publication year.
+ *
+ * <p>Book years are bounded below by {@link Book#MIN_YEAR} and above by next
+ * year, so the index is an array of posting lists addressed directly by
+ * {@code year - Book.MIN_YEAR}; it grows only when a later year appears.
+ * Each posting list keeps books in the order they were added. A year lookup
+ * is a bucket read and a range or decade lookup reads consecutive buckets.
+ * Counts come from prefix sums over the bucket sizes, rebuilt lazily after a
+ * change, so counting any range is O(1) with no scan and no boxing.</p>
+ *
+ * <p>Removal shifts the rest of the book's bucket, costing O(books in that
+ * year). This class is not thread-safe.</p>
+ */
+public final class YearIndex {
+
+    private Book[][] buckets = new Book[0][];
+    private int[] sizes = new int[0];
+    private int[] prefix;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    public YearIndex() {
+    }
+
+    /**
+     * Indexes the non-null books of an array in one pass.
+     *
+     * @param books books to index, may be null
+     * @return index of the books
+     */
+    public static YearIndex of(Book[] books) {
+        YearIndex index = new YearIndex();
+        if (books != null) {
+            for (Book book : books) {
+                if (book != null) index.add(book);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds a book at the end of its year's bucket.
+     *
+     * @param book book to add
+     */
+    public void add(Book book) {
+        int bucket = book.getYear() - Book.MIN_YEAR;
+        if (bucket >= buckets.length) {
+            int length = Math.max(bucket + 1, buckets.length + buckets.length / 2);
+            buckets = Arrays.copyOf(buckets, length);
+            sizes = Arrays.copyOf(sizes, length);
+        }
+        Book[] books = buckets[bucket];
+        if (books == null) {
+            books = buckets[bucket] = new Book[4];
+        } else if (sizes[bucket] == books.length) {
+            books = buckets[bucket] = Arrays.copyOf(books, books.length * 2);
+        }
+        books[sizes[bucket]++] = book;
+        size++;
+        prefix = null;
+    }
+
+    /**
+     * Removes a book, keeping the order of the rest of its bucket.
+     *
+     * @param book book to remove
+     * @return true if it was indexed
+     */
+    public boolean remove(Book book) {
+        int bucket = book.getYear() - Book.MIN_YEAR;
+        if (bucket < 0 || bucket >= buckets.length) return false;
+        Book[] books = buckets[bucket];
+        int count = sizes[bucket];
+        for (int i = 0; i < count; i++) {
+            if (books[i].equals(book)) {
+                System.arraycopy(books, i + 1, books, i, count - i - 1);
+                books[--sizes[bucket]] = null;
+                size--;
+                prefix = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every book.
+     */
+    public void clear() {
+        buckets = new Book[0][];
+        sizes = new int[0];
+        prefix = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of indexed books.
+     *
+     * @return book count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Counts the books published in a year.
+     *
+     * @param year publication year
+     * @return book count
+     */
+    public int count(int year) {
+        return countBetween(year, year);
+    }
+
+    /**
+     * Counts the books published from {@code from} to {@code to} inclusive.
+     *
+     * @param from first year
+     * @param to last year
+     * @return book count, 0 if from is after to
+     */
+    public int countBetween(int from, int to) {
+        int first = firstBucket(from);
+        int last = lastBucket(to);
+        if (first > last) return 0;
+        int[] sums = prefixSums();
+        return sums[last + 1] - sums[first];
+    }
+
+    /**
+     * Returns the books published in a year.
+     *
+     * @param year publication year
+     * @return new list in insertion order
+     */
+    public List<Book> findByYear(int year) {
+        return findBetween(year, year);
+    }
+
+    /**
+     * Returns the books published from {@code from} to {@code to} inclusive.
+     *
+     * @param from first year
+     * @param to last year
+     * @return new list by ascending year, in insertion order within a year
+     */
+    public List<Book> findBetween(int from, int to) {
+        List<Book> books = new ArrayList<>(countBetween(from, to));
+        for (int bucket = firstBucket(from), last = lastBucket(to); bucket <= last; bucket++) {
+            for (int i = 0; i < sizes[bucket]; i++) {
+                books.add(buckets[bucket][i]);
+            }
+        }
+        return books;
+    }
+
+    /**
+     * Returns the books published from {@code from} to {@code to} inclusive
+     * as an exactly sized array.
+     *
+     * @param from first year
+     * @param to last year
+     * @return new array by ascending year, in insertion order within a year
+     */
+    public Book[] arrayBetween(int from, int to) {
+        Book[] books = new Book[countBetween(from, to)];
+        int position = 0;
+        for (int bucket = firstBucket(from), last = lastBucket(to); bucket <= last; bucket++) {
+            if (sizes[bucket] == 0) continue;
+            System.arraycopy(buckets[bucket], 0, books, position, sizes[bucket]);
+            position += sizes[bucket];
+        }
+        return books;
+    }
+
+    /**
+     * Counts books per decade, keyed by the first year of the decade
+     * (e.g. 1990 for 1990-1999). Decades without books are left out.
+     *
+     * @return decade counts, in ascending decade order
+     */
+    public Map<Integer, Integer> countByDecade() {
+        Map<Integer, Integer> decades = new TreeMap<>();
+        if (buckets.length == 0) return decades;
+        int lastYear = Book.MIN_YEAR + buckets.length - 1;
+        for (int decade = Book.MIN_YEAR / 10 * 10; decade <= lastYear; decade += 10) {
+            int count = countBetween(decade, decade + 9);
+            if (count > 0) decades.put(decade, count);
+        }
+        return decades;
+    }
+
+    private static int firstBucket(int from) {
+        return from <= Book.MIN_YEAR ? 0 : from - Book.MIN_YEAR;
+    }
+
+    private int lastBucket(int to) {
+        return to < Book.MIN_YEAR ? -1 : Math.min(to - Book.MIN_YEAR, buckets.length - 1);
+    }
+
+    private int[] prefixSums() {
+        if (prefix == null) {
+            int[] sums = new int[buckets.length + 1];
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                sums[bucket + 1] = sums[bucket] + sizes[bucket];
+            }
+            prefix = sums;
+        }
+        return prefix;
+    }
+}
@@ -0,0 +1,189 @@
+package com.university.bookstore.api;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreConcurrent;
+import com.university.bookstore.impl.BookstoreIndexed;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for composed queries and the index-aware planner.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Query Tests")
+class QueryTest {
+
+    private Book book1, book2, book3, book4, book5;
+
+    @BeforeEach
+    void setUp() {
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+        book4 = new Book("9780201633610", "Design Patterns", "Gang of Four", 59.99, 1994);
+        book5 = new Book("9780134494166", "Clean Architecture", "Robert Martin", 44.99, 2017);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should match every condition in one pass")
+    void testEvaluate() {
+        List<Book> books = List.of(book1, book2, book3, book4, book5);
+        Query martin = Query.builder().authorContains("MARTIN").priceBetween(40, 50).build();
+        assertEquals(List.of(book3, book5), martin.evaluate(books));
+
+        Query newest = Query.builder().titleContains("java").orderByDescending(BookKey.YEAR).build();
+        assertEquals(List.of(book1, book2), newest.evaluate(books));
+
+        Query cheapest = Query.builder().yearBetween(2000, 2020).orderBy(BookKey.PRICE).limit(2).build();
+        assertEquals(List.of(book2, book5), cheapest.evaluate(books));
+
+        Query first = Query.builder().limit(3).build();
+        assertEquals(List.of(book1, book2, book3), first.evaluate(books));
+
+        assertTrue(Query.builder().year(2008).authorContains("bloch").build().evaluate(books).isEmpty());
+        assertEquals(5, Query.builder().build().evaluate(books).size());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should reject invalid builder arguments")
+    void testBuilderValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Query.builder().priceBetween(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> Query.builder().yearBetween(2020, 2010));
+        assertThrows(IllegalArgumentException.class, () -> Query.builder().limit(0));
+        assertThrows(NullPointerException.class, () -> Query.builder().titleContains(null));
+
+        Query query = Query.builder().authorContains("Martin").year(2008).limit(5).build();
+        assertEquals("martin", query.getAuthorContains());
+        assertEquals(2008, query.getMinYear());
+        assertEquals(2008, query.getMaxYear());
+        assertFalse(query.hasPriceRange());
+        assertEquals(5, query.getLimit());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should give every store the same results as manual intersection")
+    void testStoresAgree() {
+        Random random = new Random(11);
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            books.add(new Book(String.format("%013d", i), "Title " + random.nextInt(500),
+                    "Author " + random.nextInt(40), 1.0 + random.nextInt(20_000) / 100.0,
+                    1950 + random.nextInt(70)));
+        }
+        List<BookstoreAPI> stores = List.of(new BookstoreArrayList(), new BookstoreIndexed(),
+                new BookstoreConcurrent());
+        for (BookstoreAPI store : stores) {
+            store.addAll(books);
+        }
+
+        List<Query> queries = List.of(
+                Query.builder().authorContains("author 1").priceBetween(10, 80).year(1999).build(),
+                Query.builder().titleContains("title 42").build(),
+                Query.builder().priceBetween(100, 101).yearBetween(1960, 1990).build(),
+                Query.builder().authorContains("or 3").titleContains("e 1").build(),
+                Query.builder().titleContains("no such title").priceBetween(0, 500).build(),
+                Query.builder().priceBetween(0, 500).authorContains("author 7").build());
+        Comparator<Book> byIsbn = Comparator.comparing(Book::getIsbn);
+        for (Query query : queries) {
+            List<Book> expected = new ArrayList<>();
+            for (Book book : books) {
+                if (manualMatch(query, book)) expected.add(book);
+            }
+            expected.sort(byIsbn);
+            for (BookstoreAPI store : stores) {
+                List<Book> actual = new ArrayList<>(store.query(query));
+                actual.sort(byIsbn);
+                assertEquals(expected, actual, query + " on " + store.getClass().getSimpleName());
+            }
+        }
+
+        Query top = Query.builder().authorContains("author 2").orderByDescending(BookKey.PRICE).limit(5).build();
+        List<Book> reference = stores.get(0).query(top);
+        assertEquals(5, reference.size());
+        for (BookstoreAPI store : stores) {
+            assertEquals(prices(reference), prices(store.query(top)));
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should apply a limit in store order whichever plan runs")
+    void testLimitIsPlanIndependent() {
+        List<Book> books = limitFixture();
+        BookstoreAPI list = new BookstoreArrayList(books);
+        BookstoreAPI indexed = new BookstoreIndexed(books);
+
+        List<Query> queries = List.of(
+                Query.builder().priceBetween(100, 101).limit(3).build(),
+                Query.builder().titleContains("title 42").limit(2).build(),
+                Query.builder().authorContains("author 3").priceBetween(0, 30).limit(4).build(),
+                Query.builder().priceBetween(10, 20).orderBy(BookKey.YEAR).limit(7).build(),
+                Query.builder().titleContains("title 7").orderByDescending(BookKey.YEAR).build(),
+                Query.builder().yearBetween(1990, 1994).limit(5).build(),
+                Query.builder().year(2001).authorContains("author 1").limit(3).build(),
+                Query.builder().yearBetween(1960, 1961).build());
+        for (Query query : queries) {
+            List<Book> expected = query.evaluate(books);
+            assertFalse(expected.isEmpty(), query.toString());
+            assertEquals(expected, list.query(query), query + " on BookstoreArrayList");
+            assertEquals(expected, indexed.query(query), query + " on BookstoreIndexed");
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should keep inventory order on the year-bucket path after removals and sorts")
+    void testYearPathKeepsInventoryOrder() {
+        BookstoreArrayList list = new BookstoreArrayList(limitFixture());
+        for (int i = 1; i <= 3_000; i += 7) {
+            list.removeByIsbn(String.format("%013d", i));
+        }
+        list.addAll(limitFixture().subList(0, 50));
+        Query query = Query.builder().yearBetween(1990, 1994).limit(6).build();
+        assertEquals(query.evaluate(list.getAllBooks()), list.query(query));
+
+        list.sortByPrice();
+        assertEquals(query.evaluate(list.getAllBooks()), list.query(query));
+        list.sortByYear();
+        assertEquals(query.evaluate(list.getAllBooks()), list.query(query));
+    }
+
+    private static List<Book> limitFixture() {
+        Random random = new Random(23);
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            books.add(new Book(String.format("%013d", 3_000 - i), "Title " + random.nextInt(500),
+                    "Author " + random.nextInt(40), 1.0 + random.nextInt(20_000) / 100.0,
+                    1950 + random.nextInt(70)));
+        }
+        return books;
+    }
+
+    private static boolean manualMatch(Query query, Book book) {
+        boolean title = query.getTitleContains() == null
+                || book.getTitle().toLowerCase().contains(query.getTitleContains());
+        boolean author = query.getAuthorContains() == null
+                || book.getAuthor().toLowerCase().contains(query.getAuthorContains());
+        boolean price = book.getPrice() >= query.getMinPrice() && book.getPrice() <= query.getMaxPrice();
+        boolean year = book.getYear() >= query.getMinYear() && book.getYear() <= query.getMaxYear();
+        return title && author && price && year;
+    }
+
+    private static List<Double> prices(List<Book> books) {
+        List<Double> prices = new ArrayList<>();
+        for (Book book : books) {
+            prices.add(book.getPrice());
+        }
+        return prices;
+    }
+}
@@ -1,5 +1,8 @@
 package com.university.bookstore.impl;
 
+import com.university.bookstore.api.BatchResult;
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.Page;
 import com.university.bookstore.model.Book;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -7,9 +10,12 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -475,4 +481,222 @@ class BookstoreArrayListTest {
         assertTrue(str.contains("2"));
         assertTrue(str.contains("109.98"));
     }
+
+    @Test
+    @Order(30)
+    @DisplayName("Should keep statistics in sync through removal and clear")
+    void testStatisticsTrackMutations() {
+        bookstore.add(book1); // 2018, 69.99, Joshua Bloch
+        bookstore.add(book3); // 2008, 49.99, Robert Martin
+        bookstore.add(book4); // 1994, 59.99, Gang of Four
+        bookstore.add(book5); // 2017, 44.99, Robert Martin
+
+        bookstore.removeByIsbn(book4.getIsbn());
+        bookstore.removeByIsbn(book1.getIsbn());
+        Map<String, Object> stats = bookstore.getStatistics();
+
+        assertEquals(2, stats.get("size"));
+        assertEquals(94.98, (double) stats.get("total_value"), 0.001);
+        assertEquals(47.49, (double) stats.get("average_price"), 0.001);
+        assertEquals(2008, stats.get("min_year"));
+        assertEquals(2017, stats.get("max_year"));
+        assertEquals(1L, stats.get("unique_authors"));
+
+        bookstore.clear();
+        stats = bookstore.getStatistics();
+        assertEquals(0, stats.get("size"));
+        assertEquals(0.0, (double) stats.get("average_price"), 0.001);
+        assertEquals(0, stats.get("min_year"));
+        assertEquals(0L, stats.get("unique_authors"));
+    }
+
+    @Test
+    @Order(31)
+    @DisplayName("Should return the same ordered results with parallel queries")
+    void testParallelQueries() {
+        for (int i = 0; i < 6_000; i++) {
+            bookstore.add(new Book(String.format("%013d", i), "Title " + (i % 97),
+                    "Author " + (i % 13), 5.0 + (i % 200), 1900 + (i % 120)));
+        }
+        List<Book> byTitle = bookstore.findByTitle("title 4");
+        List<Book> byAuthor = bookstore.findByAuthor("AUTHOR 1");
+        List<Book> byPrice = bookstore.findByPriceRange(50.0, 60.0);
+        List<Book> byYear = bookstore.findByYear(1950);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            bookstore.enableParallelQueries(pool, 1_000);
+            assertEquals(byTitle, bookstore.findByTitle("title 4"));
+            assertEquals(byAuthor, bookstore.findByAuthor("AUTHOR 1"));
+            assertEquals(byPrice, bookstore.findByPriceRange(50.0, 60.0));
+            assertEquals(byYear, bookstore.findByYear(1950));
+            assertTrue(bookstore.findByTitle("missing").isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> bookstore.findByPriceRange(60.0, 50.0));
+
+            bookstore.disableParallelQueries();
+            assertEquals(byYear, bookstore.findByYear(1950));
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> bookstore.enableParallelQueries(pool, -1));
+        assertThrows(NullPointerException.class, () -> bookstore.enableParallelQueries(null, 10));
+    }
+
+    @Test
+    @Order(32)
+    @DisplayName("Should add and remove in batches with per-item outcomes")
+    void testBatchOperations() {
+        bookstore.add(book1);
+        BatchResult added = bookstore.addAll(Arrays.asList(book2, book1, null, book3, book2));
+        assertEquals(List.of(BatchResult.Outcome.ADDED, BatchResult.Outcome.DUPLICATE,
+                BatchResult.Outcome.INVALID, BatchResult.Outcome.ADDED, BatchResult.Outcome.DUPLICATE),
+                outcomes(added));
+        assertEquals(2, added.succeeded());
+        assertEquals(3, bookstore.size());
+
+        BatchResult removed = bookstore.removeAllByIsbn(Arrays.asList(
+                "978-0-13-468599-1", "9780201633610", "not an isbn", book3.getIsbn(), book1.getIsbn(), null));
+        assertEquals(List.of(BatchResult.Outcome.REMOVED, BatchResult.Outcome.NOT_FOUND,
+                BatchResult.Outcome.INVALID, BatchResult.Outcome.REMOVED, BatchResult.Outcome.NOT_FOUND,
+                BatchResult.Outcome.INVALID), outcomes(removed));
+        assertEquals(2, removed.succeeded());
+        assertEquals(List.of(book2), bookstore.getAllBooks());
+        assertEquals(39.99, bookstore.inventoryValue(), 0.001);
+        assertEquals(1L, bookstore.getStatistics().get("unique_authors"));
+        assertEquals(0, bookstore.removeAllByIsbn(List.of()).size());
+
+        BatchResult absent = bookstore.removeAllByIsbn(List.of(book1.getIsbn(), book4.getIsbn()));
+        assertEquals(List.of(BatchResult.Outcome.NOT_FOUND, BatchResult.Outcome.NOT_FOUND), outcomes(absent));
+        assertEquals(List.of(book2), bookstore.getAllBooks());
+    }
+
+    @Test
+    @Order(33)
+    @DisplayName("Should select top-K books with a bounded heap")
+    void testTopK() {
+        Book sameTitleLength = new Book("9780000000002", "Clean Codes", "Someone", 69.99, 2018);
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5, sameTitleLength));
+
+        assertEquals(List.of(book1, sameTitleLength, book4), bookstore.topK(BookKey.PRICE, 3));
+        assertEquals(List.of(book2, book5), bookstore.bottomK(BookKey.PRICE, 2));
+        assertEquals(List.of(book4, book2, book3), bookstore.bottomK(BookKey.YEAR, 3));
+        assertEquals(List.of(book1, sameTitleLength), bookstore.topK(BookKey.YEAR, 2));
+        assertEquals(List.of(book5, book2, book4), bookstore.topK(BookKey.TITLE_LENGTH, 3));
+        assertEquals(List.of(book5), bookstore.bottomK(BookKey.PRICE, 5, b -> b.getYear() == 2017));
+        assertEquals(6, bookstore.topK(BookKey.PRICE, 100).size());
+        assertTrue(bookstore.bottomK(BookKey.YEAR, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.bottomK(BookKey.YEAR, -1));
+    }
+
+    @Test
+    @Order(34)
+    @DisplayName("Should page through query results with cursors")
+    void testPagination() {
+        for (int i = 0; i < 100; i++) {
+            bookstore.add(new Book(String.format("%013d", i), "Title " + i, "Author " + (i % 7),
+                    10.0 + i, 2000));
+        }
+        assertEquals(bookstore.findByAuthor("author 3"), collectPages(c -> bookstore.findByAuthor("author 3", c, 4)));
+        assertEquals(bookstore.findByTitle("title 1"), collectPages(c -> bookstore.findByTitle("title 1", c, 3)));
+        assertEquals(bookstore.findByPriceRange(20.0, 60.0),
+                collectPages(c -> bookstore.findByPriceRange(20.0, 60.0, c, 10)));
+        assertEquals(bookstore.getAllBooks(), collectPages(c -> bookstore.getAllBooks(c, 30)));
+
+        Page<Book> first = bookstore.getAllBooks(null, 100);
+        assertEquals(100, first.getItems().size());
+        assertFalse(first.hasNext());
+        assertTrue(bookstore.findByTitle(null, null, 5).getItems().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.getAllBooks(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> bookstore.getAllBooks("not a cursor!", 5));
+        assertThrows(IllegalArgumentException.class, () -> bookstore.findByPriceRange(5.0, 1.0, null, 5));
+    }
+
+    @Test
+    @Order(35)
+    @DisplayName("Should answer year queries from the year index in inventory order")
+    void testYearIndex() {
+        Book sameYear = new Book("9780000000002", "A 2008 Book", "Someone", 10.0, 2008);
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5, sameYear));
+
+        assertEquals(List.of(book3, sameYear), bookstore.findByYear(2008));
+        assertEquals(List.of(book2, book3, sameYear), bookstore.findByYearRange(2000, 2009));
+        assertEquals(3, bookstore.countByYearRange(2000, 2009));
+
+        bookstore.sortByTitle();
+        assertEquals(List.of(sameYear, book3), bookstore.findByYear(2008));
+        bookstore.removeByIsbn(sameYear.getIsbn());
+        assertEquals(List.of(book3), bookstore.findByYear(2008));
+        assertEquals(5, bookstore.countByYearRange(1450, 2100));
+        bookstore.clear();
+        assertTrue(bookstore.findByYearRange(1450, 2100).isEmpty());
+    }
+
+    @Test
+    @Order(36)
+    @DisplayName("Should keep sorted views in order across mutations without reordering inventory")
+    void testSortedViews() {
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5));
+        assertEquals(List.of(book2, book5, book3, book4, book1), bookstore.getAllBooks(BookKey.PRICE));
+        assertEquals(List.of(book4, book2, book3, book5, book1), bookstore.getAllBooks(BookKey.YEAR));
+        assertEquals(List.of(book5, book3, book4, book1, book2), bookstore.getAllBooks(BookKey.TITLE));
+        assertEquals(List.of(book1, book2, book3, book4, book5), bookstore.getAllBooks());
+
+        Book sameYear = new Book("9780000000002", "A 2008 Book", "Someone", 45.0, 2008);
+        bookstore.add(sameYear);
+        assertEquals(List.of(book4, book2, sameYear, book3, book5, book1), bookstore.getAllBooks(BookKey.YEAR));
+        bookstore.removeByIsbn(book3.getIsbn());
+        bookstore.addAll(List.of(new Book("9780000000019", "Zebra", "Someone", 1.0, 1999),
+                new Book("9780000000026", "Aardvark", "Someone", 99.0, 2001)));
+        bookstore.removeAllByIsbn(List.of(book2.getIsbn(), "9780000000019"));
+
+        for (BookKey key : BookKey.values()) {
+            List<Book> expected = bookstore.getAllBooks();
+            expected.sort(key.strictComparator());
+            assertEquals(expected, bookstore.getAllBooks(key), key.name());
+            assertEquals(expected, collectPages(c -> bookstore.getAllBooks(key, c, 2)), key.name());
+        }
+        bookstore.clear();
+        assertTrue(bookstore.getAllBooks(BookKey.PRICE).isEmpty());
+        assertFalse(bookstore.getAllBooks(BookKey.PRICE, null, 5).hasNext());
+    }
+
+    @Test
+    @Order(37)
+    @DisplayName("Should keep the ISBN index consistent across batches and removals")
+    void testIsbnIndexAcrossBatches() {
+        assertEquals(2, bookstore.addAll(List.of(book1, book2)).succeeded());
+        assertEquals(List.of(BatchResult.Outcome.DUPLICATE, BatchResult.Outcome.ADDED),
+                outcomes(bookstore.addAll(List.of(book2, book3))));
+        assertFalse(bookstore.add(book3));
+
+        assertTrue(bookstore.removeByIsbn(book3.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(book3.getIsbn()));
+        assertNull(bookstore.findByIsbn(book3.getIsbn()));
+        assertEquals(1, bookstore.removeAllByIsbn(List.of(book1.getIsbn(), book4.getIsbn())).succeeded());
+        assertEquals(2, bookstore.addAll(List.of(book1, book3)).succeeded());
+        assertEquals(3, bookstore.size());
+
+        bookstore.clear();
+        assertTrue(bookstore.add(book1));
+        assertSame(book1, bookstore.findByIsbn(book1.getIsbn()));
+    }
+
+    static List<Book> collectPages(Function<String, Page<Book>> query) {
+        List<Book> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<Book> page = query.apply(cursor);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private static List<BatchResult.Outcome> outcomes(BatchResult result) {
+        List<BatchResult.Outcome> outcomes = new ArrayList<>();
+        for (int i = 0; i < result.size(); i++) {
+            outcomes.add(result.get(i));
+        }
+        return outcomes;
+    }
 }
@@ -0,0 +1,170 @@
+package com.university.bookstore.impl;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the columnar BookstoreColumnar implementation.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreColumnar Tests")
+class BookstoreColumnarTest {
+
+    private BookstoreColumnar bookstore;
+    private Book book1, book2, book3, book4, book5;
+
+    @BeforeEach
+    void setUp() {
+        bookstore = new BookstoreColumnar();
+
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+        book4 = new Book("9780201633610", "Design Patterns", "Gang of Four", 59.99, 1994);
+        book5 = new Book("9780134494166", "Clean Architecture", "Robert Martin", 44.99, 2017);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should create empty bookstore")
+    void testEmptyBookstore() {
+        assertEquals(0, bookstore.size());
+        assertEquals(0.0, bookstore.inventoryValue(), 0.001);
+        assertNull(bookstore.getMostExpensive());
+        assertNull(bookstore.getMostRecent());
+        assertEquals(0, bookstore.snapshotArray().length);
+        assertEquals(0L, bookstore.getStatistics().get("unique_authors"));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should materialize equal books from the columns")
+    void testRoundTrip() {
+        assertTrue(bookstore.add(book1));
+        assertFalse(bookstore.add(book1));
+        assertFalse(bookstore.add(null));
+
+        Book found = bookstore.findByISBN(book1.getIsbn());
+        assertEquals(book1, found);
+        assertEquals(book1.getTitle(), found.getTitle());
+        assertEquals(book1.getAuthor(), found.getAuthor());
+        assertEquals(book1.getPrice(), found.getPrice());
+        assertEquals(book1.getYear(), found.getYear());
+        assertNull(bookstore.findByISBN(null));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should answer queries and statistics like BookstoreArrayList")
+    void testMatchesArrayList() {
+        List<Book> books = Arrays.asList(book1, book2, book3, book4, book5);
+        BookstoreColumnar columnar = new BookstoreColumnar(books);
+        BookstoreArrayList reference = new BookstoreArrayList(books);
+
+        assertEquals(reference.findByTitle("java"), columnar.findByTitle("java"));
+        assertEquals(reference.findByAuthor("martin"), columnar.findByAuthor("martin"));
+        assertEquals(reference.findByAuthor("zzz"), columnar.findByAuthor("zzz"));
+        assertEquals(reference.findByPriceRange(40.0, 60.0), columnar.findByPriceRange(40.0, 60.0));
+        assertEquals(reference.findByYear(2008), columnar.findByYear(2008));
+        assertEquals(reference.getMostExpensive(), columnar.getMostExpensive());
+        assertEquals(reference.getMostRecent(), columnar.getMostRecent());
+        assertEquals(reference.getAllBooks(), columnar.getAllBooks());
+        assertEquals(reference.getStatistics().get("unique_authors"),
+                columnar.getStatistics().get("unique_authors"));
+        assertEquals(reference.inventoryValue(), columnar.inventoryValue(), 0.001);
+        assertThrows(IllegalArgumentException.class, () -> columnar.findByPriceRange(60.0, 40.0));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should stay consistent through random adds and removals")
+    void testRandomMutations() {
+        Random random = new Random(42);
+        BookstoreArrayList reference = new BookstoreArrayList();
+        List<String> isbns = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            if (!isbns.isEmpty() && random.nextInt(3) == 0) {
+                String isbn = isbns.remove(random.nextInt(isbns.size()));
+                assertEquals(reference.removeByIsbn(isbn), bookstore.removeByIsbn(isbn));
+            } else {
+                Book book = new Book(String.format("%013d", random.nextInt(1_000)),
+                        "Title " + random.nextInt(50), "Author " + random.nextInt(20),
+                        random.nextInt(10_000) / 100.0, 1900 + random.nextInt(120));
+                boolean added = reference.add(book);
+                assertEquals(added, bookstore.add(book));
+                if (added) isbns.add(book.getIsbn());
+            }
+        }
+
+        assertEquals(reference.size(), bookstore.size());
+        assertEquals(new HashSet<>(reference.getAllBooks()), new HashSet<>(bookstore.getAllBooks()));
+        assertEquals(new HashSet<>(reference.findByAuthor("author 1")),
+                new HashSet<>(bookstore.findByAuthor("author 1")));
+        assertEquals(new HashSet<>(reference.findByYear(1950)), new HashSet<>(bookstore.findByYear(1950)));
+        assertEquals(reference.getStatistics().get("unique_authors"),
+                bookstore.getStatistics().get("unique_authors"));
+        assertEquals(reference.getStatistics().get("min_year"), bookstore.getStatistics().get("min_year"));
+        assertEquals(reference.inventoryValue(), bookstore.inventoryValue(), 0.001);
+        for (String isbn : isbns) {
+            assertEquals(reference.findByIsbn(isbn), bookstore.findByISBN(isbn));
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should clear rows and dictionary")
+    void testClear() {
+        bookstore.add(book3);
+        bookstore.add(book5);
+        bookstore.clear();
+
+        assertEquals(0, bookstore.size());
+        assertTrue(bookstore.findByAuthor("martin").isEmpty());
+        assertTrue(bookstore.add(book5));
+        assertEquals(List.of(book5), bookstore.findByAuthor("martin"));
+        assertEquals(1L, bookstore.getStatistics().get("unique_authors"));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should rebuild ISBN spellings and reuse freed title ids")
+    void testIsbnSpellingsAndTitles() {
+        Book isbn10 = new Book("0-306-40615-2", "Clean Code", "Author", 10.0, 2020);
+        Book badCheck = new Book("123456789X", "Clean Code", "Author", 10.0, 2020);
+        assertTrue(bookstore.add(isbn10));
+        assertTrue(bookstore.add(badCheck));
+        assertTrue(bookstore.add(book3));
+
+        assertEquals("0306406152", bookstore.findByISBN("9780306406157").getISBN());
+        assertEquals("123456789X", bookstore.findByISBN("123456789X").getISBN());
+        assertEquals(book3.getISBN(), bookstore.findByISBN(book3.getISBN()).getISBN());
+        assertEquals(3, bookstore.findByTitle("clean code").size());
+
+        assertTrue(bookstore.removeByIsbn("123456789X"));
+        assertTrue(bookstore.removeByIsbn(book3.getISBN()));
+        assertTrue(bookstore.removeByIsbn(isbn10.getISBN()));
+        assertTrue(bookstore.findByTitle("clean").isEmpty());
+        assertTrue(bookstore.add(book1));
+        assertEquals(List.of(book1), bookstore.findByTitle("effective"));
+        assertEquals(book1.getTitle(), bookstore.findByISBN(book1.getISBN()).getTitle());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should sum the inventory value with compensation")
+    void testCompensatedValue() {
+        bookstore.add(new Book(String.format("%013d", 0), "Big", "Author", 1e16, 2000));
+        for (int i = 1; i <= 10; i++) {
+            bookstore.add(new Book(String.format("%013d", i), "Small " + i, "Author", 1.0, 2000));
+        }
+        assertEquals(1e16 + 10, bookstore.inventoryValue());
+    }
+}
@@ -0,0 +1,162 @@
+package com.university.bookstore.impl;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Functional and stress tests for the thread-safe BookstoreConcurrent.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreConcurrent Tests")
+class BookstoreConcurrentTest {
+
+    private static final int THREADS = 8;
+
+    private BookstoreConcurrent bookstore;
+    private Book book1, book2, book3;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        bookstore = new BookstoreConcurrent();
+        pool = Executors.newFixedThreadPool(THREADS);
+
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pool.shutdownNow();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should behave like a single-threaded store")
+    void testBasicOperations() {
+        assertTrue(bookstore.add(book1));
+        assertTrue(bookstore.add(book2));
+        assertTrue(bookstore.add(book3));
+        assertFalse(bookstore.add(book1));
+        assertFalse(bookstore.add(null));
+
+        assertEquals(3, bookstore.size());
+        assertEquals(book2, bookstore.findByISBN(book2.getIsbn()));
+        assertEquals(List.of(book1, book2), bookstore.findByTitle("java"));
+        assertEquals(List.of(book3), bookstore.findByAuthor("MARTIN"));
+        assertEquals(List.of(book2, book3), bookstore.findByPriceRange(30.0, 50.0));
+        assertEquals(book1, bookstore.getMostExpensive());
+        assertEquals(book1, bookstore.getMostRecent());
+        assertEquals(159.97, bookstore.inventoryValue(), 0.001);
+
+        assertTrue(bookstore.removeByIsbn(book1.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(book1.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(null));
+        assertNull(bookstore.findByISBN(book1.getIsbn()));
+        assertArrayEquals(new Book[]{book2, book3}, bookstore.snapshotArray());
+
+        bookstore.clear();
+        assertEquals(0, bookstore.size());
+        assertTrue(bookstore.getAllBooks().isEmpty());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should return defensive copies of the shared snapshot")
+    void testDefensiveCopies() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+
+        Book[] array = bookstore.snapshotArray();
+        array[0] = book3;
+        List<Book> list = bookstore.getAllBooks();
+        list.clear();
+
+        assertEquals(book1, bookstore.snapshotArray()[0]);
+        assertEquals(2, bookstore.getAllBooks().size());
+    }
+
+    @RepeatedTest(5)
+    @Order(3)
+    @DisplayName("Should accept exactly one of many racing adds of the same ISBN")
+    void testDuplicateCheckIsAtomic() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Book copy = new Book(book1.getIsbn(), "Copy " + t, "Author " + t, 10.0 + t, 2000);
+            futures.add(pool.submit(() -> {
+                start.await();
+                if (bookstore.add(copy)) accepted.incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, accepted.get());
+        assertEquals(1, bookstore.size());
+        assertEquals(1, bookstore.snapshotArray().length);
+    }
+
+    @Test
+    @Order(4)
+    @Timeout(30)
+    @DisplayName("Should not lose updates under concurrent add and remove")
+    void testNoLostUpdates() throws Exception {
+        int perThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    // Half the ISBNs are shared between neighbouring threads.
+                    int id = (i % 2 == 0) ? thread * perThread + i : ((thread + 1) % THREADS) * perThread + i - 1;
+                    String isbn = String.format("%013d", id);
+                    if (bookstore.add(new Book(isbn, "Title " + id, "Author", 10.0, 2000))) {
+                        added.incrementAndGet();
+                    }
+                    if (i % 3 == 0 && bookstore.removeByIsbn(isbn)) {
+                        removed.incrementAndGet();
+                    }
+                    bookstore.findByPriceRange(0.0, 100.0);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+
+        int expected = added.get() - removed.get();
+        assertEquals(expected, bookstore.size());
+        Book[] snapshot = bookstore.snapshotArray();
+        assertEquals(expected, snapshot.length);
+
+        Set<String> isbns = new HashSet<>();
+        for (Book book : snapshot) {
+            assertTrue(isbns.add(book.getIsbn()), "duplicate ISBN in snapshot");
+            assertSame(book, bookstore.findByISBN(book.getIsbn()));
+        }
+        assertEquals(expected * 10.0, bookstore.inventoryValue(), 0.001);
+    }
+}
@@ -0,0 +1,368 @@
+package com.university.bookstore.impl;
+
+import com.university.bookstore.api.BookKey;
+import com.university.bookstore.api.BookstoreAPI;
+import com.university.bookstore.api.Page;
+import com.university.bookstore.api.Query;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the hash-indexed BookstoreIndexed implementation.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreIndexed Tests")
+class BookstoreIndexedTest {
+
+    private BookstoreIndexed bookstore;
+    private Book book1, book2, book3, book4, book5;
+
+    @BeforeEach
+    void setUp() {
+        bookstore = new BookstoreIndexed();
+
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+        book4 = new Book("9780201633610", "Design Patterns", "Gang of Four", 59.99, 1994);
+        book5 = new Book("9780134494166", "Clean Architecture", "Robert Martin", 44.99, 2017);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should be usable through BookstoreAPI")
+    void testImplementsApi() {
+        BookstoreAPI api = bookstore;
+        assertTrue(api.add(book1));
+        assertEquals(book1, api.findByISBN(book1.getIsbn()));
+        assertEquals(1, api.size());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should reject null and duplicate ISBN")
+    void testRejectDuplicates() {
+        assertFalse(bookstore.add(null));
+        assertTrue(bookstore.add(book1));
+
+        Book duplicate = new Book(book1.getIsbn(), "Different Title", "Different Author", 99.99, 2020);
+        assertFalse(bookstore.add(duplicate));
+        assertEquals(1, bookstore.size());
+        assertEquals("Effective Java", bookstore.findByISBN(book1.getIsbn()).getTitle());
+    }
+
+    @ParameterizedTest
+    @Order(3)
+    @NullAndEmptySource
+    @DisplayName("Should handle invalid ISBN lookups and removals")
+    void testInvalidIsbn(String isbn) {
+        bookstore.add(book1);
+        assertNull(bookstore.findByISBN(isbn));
+        assertFalse(bookstore.removeByIsbn(isbn));
+        assertEquals(1, bookstore.size());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should keep index in sync after removal from the middle")
+    void testRemoveKeepsIndexInSync() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+
+        assertTrue(bookstore.removeByIsbn(book1.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(book1.getIsbn()));
+        assertEquals(2, bookstore.size());
+        assertNull(bookstore.findByISBN(book1.getIsbn()));
+        assertEquals(book2, bookstore.findByISBN(book2.getIsbn()));
+        assertEquals(book3, bookstore.findByISBN(book3.getIsbn()));
+
+        assertTrue(bookstore.removeByIsbn(book3.getIsbn()));
+        assertEquals(book2, bookstore.findByISBN(book2.getIsbn()));
+        assertTrue(bookstore.add(book1));
+        assertEquals(book1, bookstore.findByISBN(book1.getIsbn()));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should keep index in sync after sorting")
+    void testSortKeepsIndexInSync() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+        bookstore.add(book4);
+
+        bookstore.sortByPrice();
+        assertEquals(book2, bookstore.snapshotArray()[0]);
+        assertTrue(bookstore.removeByIsbn(book2.getIsbn()));
+        assertEquals(book1, bookstore.findByISBN(book1.getIsbn()));
+
+        bookstore.sortByYear();
+        assertEquals(book4, bookstore.snapshotArray()[0]);
+        bookstore.sortByTitle();
+        assertEquals(book3, bookstore.snapshotArray()[0]);
+        for (Book book : Arrays.asList(book1, book3, book4)) {
+            assertEquals(book, bookstore.findByISBN(book.getIsbn()));
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should clear books and index")
+    void testClear() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.clear();
+
+        assertEquals(0, bookstore.size());
+        assertNull(bookstore.findByISBN(book1.getIsbn()));
+        assertTrue(bookstore.add(book1));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should answer queries like BookstoreArrayList")
+    void testQueriesMatchArrayList() {
+        List<Book> books = Arrays.asList(book1, book2, book3, book4, book5);
+        BookstoreIndexed indexed = new BookstoreIndexed(books);
+        BookstoreArrayList reference = new BookstoreArrayList(books);
+
+        assertEquals(reference.findByTitle("java"), indexed.findByTitle("java"));
+        assertEquals(reference.findByAuthor("martin"), indexed.findByAuthor("martin"));
+        assertEquals(new HashSet<>(reference.findByPriceRange(40.0, 60.0)),
+                new HashSet<>(indexed.findByPriceRange(40.0, 60.0)));
+        assertEquals(reference.findByYear(2008), indexed.findByYear(2008));
+        assertEquals(reference.inventoryValue(), indexed.inventoryValue(), 0.001);
+        assertEquals(reference.getMostExpensive(), indexed.getMostExpensive());
+        assertEquals(reference.getMostRecent(), indexed.getMostRecent());
+
+        Map<String, Object> stats = indexed.getStatistics();
+        assertEquals(reference.getStatistics(), stats);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should return price range in ascending price order")
+    void testPriceRangeOrdered() {
+        bookstore.add(book1); // 69.99
+        bookstore.add(book2); // 39.99
+        bookstore.add(book3); // 49.99
+        bookstore.add(book4); // 59.99
+        bookstore.add(book5); // 44.99
+
+        assertEquals(Arrays.asList(book5, book3, book4), bookstore.findByPriceRange(40.0, 60.0));
+        assertEquals(List.of(book2), bookstore.findByPriceRange(39.99, 39.99));
+        assertTrue(bookstore.findByPriceRange(70.0, 100.0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.findByPriceRange(60.0, 40.0));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should track most expensive book through add and remove")
+    void testMostExpensiveTracksMutations() {
+        assertNull(bookstore.getMostExpensive());
+        bookstore.add(book2);
+        bookstore.add(book1);
+        bookstore.add(book3);
+        assertEquals(book1, bookstore.getMostExpensive());
+
+        bookstore.removeByIsbn(book1.getIsbn());
+        assertEquals(book3, bookstore.getMostExpensive());
+        assertEquals(List.of(book2, book3), bookstore.findByPriceRange(0.0, 100.0));
+
+        bookstore.clear();
+        assertNull(bookstore.getMostExpensive());
+        assertTrue(bookstore.findByPriceRange(0.0, 100.0).isEmpty());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Should match substring scans for title and author after mutations")
+    void testTextSearchMatchesScan() {
+        List<Book> books = Arrays.asList(book1, book2, book3, book4, book5);
+        BookstoreIndexed indexed = new BookstoreIndexed(books);
+        BookstoreArrayList reference = new BookstoreArrayList(books);
+        indexed.removeByIsbn(book3.getIsbn());
+        reference.removeByIsbn(book3.getIsbn());
+
+        for (String query : Arrays.asList("", "a", "JA", "java", "clean", "an a", "ean co",
+                "st java", "ROBERT MARTIN", "martin", "of", "xyz", "patterns!")) {
+            assertEquals(new HashSet<>(reference.findByTitle(query)),
+                    new HashSet<>(indexed.findByTitle(query)), "title: " + query);
+            assertEquals(new HashSet<>(reference.findByAuthor(query)),
+                    new HashSet<>(indexed.findByAuthor(query)), "author: " + query);
+        }
+        assertEquals(List.of(book5), indexed.findByTitle("clean"));
+        assertTrue(indexed.findByTitle("clean code").isEmpty());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Should return text matches in inventory order")
+    void testTextSearchOrder() {
+        bookstore.add(book5);
+        bookstore.add(book1);
+        bookstore.add(book3);
+        bookstore.add(book2);
+
+        assertEquals(Arrays.asList(book1, book2), bookstore.findByTitle("java"));
+        bookstore.sortByTitle();
+        assertEquals(Arrays.asList(book5, book3), bookstore.findByTitle("clean"));
+        assertEquals(Arrays.asList(book5, book3), bookstore.findByAuthor("robert"));
+
+        bookstore.clear();
+        assertTrue(bookstore.findByTitle("java").isEmpty());
+        assertTrue(bookstore.findByAuthor("").isEmpty());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Should keep running statistics equal to a full recomputation")
+    void testStatisticsTrackMutations() {
+        List<Book> books = Arrays.asList(book1, book2, book3, book4, book5);
+        BookstoreIndexed indexed = new BookstoreIndexed(books);
+        BookstoreArrayList reference = new BookstoreArrayList(books);
+
+        for (Book book : Arrays.asList(book4, book1, book3)) {
+            indexed.removeByIsbn(book.getIsbn());
+            reference.removeByIsbn(book.getIsbn());
+            assertEquals(reference.getStatistics(), indexed.getStatistics());
+            assertEquals(reference.inventoryValue(), indexed.inventoryValue(), 1e-9);
+        }
+        assertEquals(2005, indexed.getStatistics().get("min_year"));
+        assertEquals(2017, indexed.getStatistics().get("max_year"));
+        assertTrue(indexed.toString().contains("84.98"));
+    }
+
+    @Test
+    @Order(13)
+    @Timeout(5)
+    @DisplayName("Should load and query a large inventory in linear time")
+    void testLargeInventory() {
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(bookstore.add(new Book(String.format("%013d", i), "Title " + i,
+                    "Author " + (i % 10), 10.0 + (i % 100), 1950 + (i % 75))));
+        }
+        assertEquals(100_000, bookstore.size());
+
+        for (int i = 0; i < 100_000; i += 2) {
+            assertTrue(bookstore.removeByIsbn(String.format("%013d", i)));
+        }
+        assertEquals(50_000, bookstore.size());
+        assertNotNull(bookstore.findByISBN(String.format("%013d", 99_999)));
+        assertNull(bookstore.findByISBN(String.format("%013d", 99_998)));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Should treat ISBN-10 and ISBN-13 spellings as the same book")
+    void testIsbnSpellings() {
+        Book isbn10 = new Book("0-306-40615-2", "Title", "Author", 10.0, 2000);
+        assertTrue(bookstore.add(isbn10));
+        assertFalse(bookstore.add(new Book("9780306406157", "Other", "Author", 12.0, 2001)));
+
+        assertSame(isbn10, bookstore.findByISBN("978-0-306-40615-7"));
+        assertSame(isbn10, bookstore.findByISBN("0306406152"));
+        assertNull(bookstore.findByISBN("not an isbn"));
+        assertTrue(bookstore.removeByIsbn("9780306406157"));
+        assertEquals(0, bookstore.size());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Should answer price top-K from the index and other keys with a heap")
+    void testTopK() {
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5));
+        assertEquals(List.of(book1, book4), bookstore.topK(BookKey.PRICE, 2));
+        assertEquals(List.of(book2, book5, book3), bookstore.bottomK(BookKey.PRICE, 3));
+        assertEquals(List.of(book5, book3), bookstore.bottomK(BookKey.PRICE, 2, b -> b.getYear() > 2006));
+        assertEquals(List.of(book1, book5), bookstore.topK(BookKey.YEAR, 2));
+        assertEquals(List.of(book4), bookstore.bottomK(BookKey.YEAR, 1));
+        assertEquals(5, bookstore.topK(BookKey.TITLE_LENGTH, 10).size());
+        assertTrue(bookstore.topK(BookKey.PRICE, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bookstore.topK(BookKey.PRICE, -1));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Should resume price pages from the index across mutations")
+    void testPagination() {
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5));
+        Page<Book> first = bookstore.findByPriceRange(40.0, 70.0, null, 2);
+        assertEquals(List.of(book5, book3), first.getItems());
+        assertTrue(first.hasNext());
+
+        bookstore.removeByIsbn(book5.getIsbn());
+        bookstore.add(new Book("9780000000002", "Cheap", "Someone", 41.0, 2000));
+        Page<Book> second = bookstore.findByPriceRange(40.0, 70.0, first.getNextCursor(), 2);
+        assertEquals(List.of(book4, book1), second.getItems());
+        assertFalse(second.hasNext());
+
+        assertEquals(bookstore.getAllBooks(),
+                BookstoreArrayListTest.collectPages(c -> bookstore.getAllBooks(c, 2)));
+        assertEquals(bookstore.findByTitle("java"),
+                BookstoreArrayListTest.collectPages(c -> bookstore.findByTitle("java", c, 1)));
+        assertTrue(bookstore.findByPriceRange(80.0, 90.0, first.getNextCursor(), 2).getItems().isEmpty());
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Should answer year queries from the year index")
+    void testYearIndex() {
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5));
+        assertEquals(List.of(book3), bookstore.findByYear(2008));
+        assertEquals(List.of(book2, book3, book5, book1), bookstore.findByYearRange(2000, 2019));
+        assertEquals(2, bookstore.countByYearRange(2010, 2019));
+
+        bookstore.removeByIsbn(book3.getIsbn());
+        assertTrue(bookstore.findByYear(2008).isEmpty());
+        assertEquals(List.of(book4, book2), bookstore.findByYearRange(1990, 2009));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Should keep sorted views in order across mutations")
+    void testSortedViews() {
+        bookstore.addAll(List.of(book1, book2, book3, book4, book5));
+        assertEquals(List.of(book5, book3, book4, book1, book2), bookstore.getAllBooks(BookKey.TITLE));
+        assertEquals(List.of(book2, book5, book3, book4, book1),
+                BookstoreArrayListTest.collectPages(c -> bookstore.getAllBooks(BookKey.PRICE, c, 2)));
+
+        bookstore.removeByIsbn(book4.getIsbn());
+        bookstore.add(new Book("9780000000002", "Cheap", "Someone", 1.0, 2000));
+        for (BookKey key : BookKey.values()) {
+            List<Book> expected = bookstore.getAllBooks();
+            expected.sort(key.strictComparator());
+            assertEquals(expected, bookstore.getAllBooks(key), key.name());
+        }
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Should treat a -0.0 price like 0.0 in price ranges")
+    void testNegativeZeroPrice() {
+        Book free = new Book("9780000000002", "Free", "Someone", -0.0, 2000);
+        BookstoreArrayList linear = new BookstoreArrayList();
+        linear.addAll(List.of(free, book2));
+        bookstore.addAll(List.of(free, book2));
+
+        assertEquals(linear.findByPriceRange(0.0, 10.0), bookstore.findByPriceRange(0.0, 10.0));
+        assertEquals(List.of(free), bookstore.findByPriceRange(0.0, 10.0));
+        assertEquals(List.of(free), bookstore.findByPriceRange(-0.0, 0.0));
+        assertEquals(List.of(free, book2),
+                BookstoreArrayListTest.collectPages(c -> bookstore.findByPriceRange(0.0, 50.0, c, 1)));
+        assertEquals(List.of(free), bookstore.query(Query.builder().priceBetween(0.0, 10.0).build()));
+
+        assertTrue(bookstore.removeByIsbn(free.getIsbn()));
+        assertTrue(bookstore.findByPriceRange(-1.0, 1.0).isEmpty());
+    }
+}
@@ -0,0 +1,140 @@
+package com.university.bookstore.impl;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped BookstoreMapped implementation.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookstoreMapped Tests")
+class BookstoreMappedTest {
+
+    @TempDir
+    Path directory;
+
+    private BookstoreMapped bookstore;
+    private Book book1, book2, book3;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bookstore = new BookstoreMapped(directory.resolve("catalog"));
+
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        bookstore.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should support the BookstoreAPI operations")
+    void testOperations() {
+        assertEquals(0, bookstore.size());
+        assertNull(bookstore.getMostExpensive());
+
+        assertTrue(bookstore.add(book1));
+        assertTrue(bookstore.add(book2));
+        assertTrue(bookstore.add(book3));
+        assertFalse(bookstore.add(book1));
+        assertFalse(bookstore.add(null));
+
+        assertEquals(3, bookstore.size());
+        assertEquals("Head First Java", bookstore.findByISBN(book2.getIsbn()).getTitle());
+        assertEquals(List.of(book1, book2), bookstore.findByTitle("JAVA"));
+        assertEquals(List.of(book3), bookstore.findByAuthor("martin"));
+        assertEquals(List.of(book2, book3), bookstore.findByPriceRange(30.0, 50.0));
+        assertEquals(List.of(book3), bookstore.findByYear(2008));
+        assertEquals(159.97, bookstore.inventoryValue(), 0.001);
+        assertEquals(book1, bookstore.getMostExpensive());
+        assertEquals(book1, bookstore.getMostRecent());
+
+        assertTrue(bookstore.removeByIsbn(book1.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(book1.getIsbn()));
+        assertFalse(bookstore.removeByIsbn(null));
+        assertNull(bookstore.findByISBN(book1.getIsbn()));
+        assertArrayEquals(new Book[]{book2, book3}, bookstore.snapshotArray());
+        assertEquals(List.of(book2, book3), bookstore.getAllBooks());
+
+        assertTrue(bookstore.add(book1));
+        assertEquals(book1, bookstore.findByISBN(book1.getIsbn()));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should reopen a catalog without losing books")
+    void testReopen() throws IOException {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+        bookstore.removeByIsbn(book2.getIsbn());
+        bookstore.close();
+
+        bookstore = new BookstoreMapped(directory.resolve("catalog"));
+        assertEquals(2, bookstore.size());
+        assertEquals(List.of(book1, book3), bookstore.getAllBooks());
+        assertEquals("Robert Martin", bookstore.findByISBN(book3.getIsbn()).getAuthor());
+        assertNull(bookstore.findByISBN(book2.getIsbn()));
+        assertTrue(bookstore.add(book2));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should grow files and index past their initial size")
+    void testGrowth() throws IOException {
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            assertTrue(bookstore.add(new Book(String.format("%013d", i), "Title " + i,
+                    "Author " + (i % 50), 10.0 + (i % 100), 1950 + (i % 75))));
+        }
+        for (int i = 0; i < count; i += 4) {
+            assertTrue(bookstore.removeByIsbn(String.format("%013d", i)));
+        }
+        assertEquals(count - count / 4, bookstore.size());
+        bookstore.close();
+
+        bookstore = new BookstoreMapped(directory.resolve("catalog"));
+        assertEquals(count - count / 4, bookstore.size());
+        assertNull(bookstore.findByISBN(String.format("%013d", 400)));
+        assertEquals("Title 401", bookstore.findByISBN(String.format("%013d", 401)).getTitle());
+        assertEquals(0, bookstore.findByPriceRange(10.0, 10.0).size());
+        assertEquals(count / 100, bookstore.findByPriceRange(11.0, 11.0).size());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should clear the catalog and reuse its files")
+    void testClear() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.clear();
+
+        assertEquals(0, bookstore.size());
+        assertNull(bookstore.findByISBN(book1.getIsbn()));
+        assertTrue(bookstore.getAllBooks().isEmpty());
+        assertTrue(bookstore.add(book1));
+        assertEquals(List.of(book1), bookstore.getAllBooks());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should refuse files that are not a catalog")
+    void testRejectsForeignFiles() throws IOException {
+        Path foreign = directory.resolve("foreign");
+        Files.createDirectories(foreign);
+        Files.write(foreign.resolve("records.bin"), new byte[64]);
+        assertThrows(IOException.class, () -> new BookstoreMapped(foreign));
+    }
+}
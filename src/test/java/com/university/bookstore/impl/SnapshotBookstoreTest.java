@@ -0,0 +1,108 @@
+package com.university.bookstore.impl;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the copy-on-write SnapshotBookstore wrapper.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("SnapshotBookstore Tests")
+class SnapshotBookstoreTest {
+
+    private SnapshotBookstore bookstore;
+    private Book book1, book2, book3;
+
+    @BeforeEach
+    void setUp() {
+        bookstore = new SnapshotBookstore(new BookstoreArrayList());
+
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should reject a null delegate")
+    void testNullDelegate() {
+        assertThrows(NullPointerException.class, () -> new SnapshotBookstore(null));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should share one read-only list between mutations")
+    void testSharedSnapshot() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+
+        List<Book> first = bookstore.getAllBooks();
+        List<Book> second = bookstore.getAllBooks();
+        assertSame(first, second);
+        assertSame(first, bookstore.snapshot());
+        assertEquals(List.of(book1, book2), first);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(book3));
+        assertThrows(UnsupportedOperationException.class, first::clear);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should publish a new version only after successful mutations")
+    void testVersioning() {
+        assertEquals(0, bookstore.version());
+        List<Book> empty = bookstore.getAllBooks();
+        assertTrue(empty.isEmpty());
+
+        assertTrue(bookstore.add(book1));
+        assertEquals(1, bookstore.version());
+        assertFalse(bookstore.add(book1));
+        assertFalse(bookstore.removeByIsbn(book3.getIsbn()));
+        assertEquals(1, bookstore.version());
+
+        List<Book> afterAdd = bookstore.getAllBooks();
+        assertNotSame(empty, afterAdd);
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of(book1), afterAdd);
+
+        assertTrue(bookstore.removeByIsbn(book1.getIsbn()));
+        assertEquals(2, bookstore.version());
+        assertTrue(bookstore.getAllBooks().isEmpty());
+        assertEquals(List.of(book1), afterAdd);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should still hand out copies from snapshotArray")
+    void testSnapshotArrayIsCopy() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+
+        Book[] array = bookstore.snapshotArray();
+        array[0] = book3;
+        assertEquals(book1, bookstore.snapshotArray()[0]);
+        assertEquals(book1, bookstore.getAllBooks().get(0));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should delegate queries to the wrapped store")
+    void testDelegatesQueries() {
+        bookstore.add(book1);
+        bookstore.add(book2);
+        bookstore.add(book3);
+
+        assertEquals(3, bookstore.size());
+        assertEquals(book2, bookstore.findByISBN(book2.getIsbn()));
+        assertEquals(List.of(book1, book2), bookstore.findByTitle("java"));
+        assertEquals(List.of(book3), bookstore.findByAuthor("martin"));
+        assertEquals(List.of(book2, book3), bookstore.findByPriceRange(30.0, 50.0));
+        assertEquals(159.97, bookstore.inventoryValue(), 0.001);
+        assertEquals(book1, bookstore.getMostExpensive());
+        assertEquals(book1, bookstore.getMostRecent());
+        assertTrue(bookstore.toString().contains("version=3"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreIndexed;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary BookSnapshot format.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookSnapshot Tests")
+class BookSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private BookstoreArrayList bookstore;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("inventory.snapshot");
+        bookstore = new BookstoreArrayList();
+        bookstore.add(new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018));
+        bookstore.add(new Book("0-306-40615-2", "Les Misérables – 日本語", "Victor Hugo", 0.0, 1862));
+        bookstore.add(new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008));
+        bookstore.add(new Book("9780134494166", "Clean Architecture", "Robert Martin", 44.99, 2017));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should restore every field in the saved order")
+    void testRoundTrip() throws IOException {
+        BookSnapshot.write(bookstore, file);
+        BookstoreIndexed restored = new BookstoreIndexed();
+
+        assertEquals(4, BookSnapshot.restore(file, restored));
+        List<Book> expected = bookstore.getAllBooks();
+        List<Book> actual = restored.getAllBooks();
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertEquals(expected.get(i).getISBN(), actual.get(i).getISBN());
+        }
+        assertFalse(Files.exists(directory.resolve("inventory.snapshot.tmp")));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should save an empty inventory and many books")
+    void testSizes() throws IOException {
+        BookSnapshot.write(new BookstoreArrayList(), file);
+        assertTrue(BookSnapshot.read(file).isEmpty());
+
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            books.add(new Book(String.format("%013d", i), "Title " + i, "Author " + (i % 100),
+                    i / 100.0, 1900 + i % 120));
+        }
+        BookSnapshot.write(books, file);
+        assertEquals(books, BookSnapshot.read(file));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject corrupted, truncated and foreign files")
+    void testRejectsBadFiles() throws IOException {
+        BookSnapshot.write(bookstore, file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        byte[] corrupted = bytes.clone();
+        corrupted[corrupted.length - 5] ^= 1;
+        Files.write(file, corrupted);
+        assertThrows(IOException.class, () -> BookSnapshot.read(file));
+
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> BookSnapshot.read(file));
+
+        byte[] newer = bytes.clone();
+        newer[4] = (byte) (BookSnapshot.FORMAT_VERSION + 1);
+        Files.write(file, newer);
+        IOException e = assertThrows(IOException.class, () -> BookSnapshot.read(file));
+        assertTrue(e.getMessage().contains("version"));
+
+        Files.write(file, new byte[10]);
+        assertThrows(IOException.class, () -> BookSnapshot.read(file));
+    }
+}
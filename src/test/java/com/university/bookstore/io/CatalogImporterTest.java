@@ -0,0 +1,132 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreIndexed;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming CatalogImporter.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("CatalogImporter Tests")
+class CatalogImporterTest {
+
+    @TempDir
+    Path directory;
+
+    private BookstoreIndexed bookstore;
+
+    @BeforeEach
+    void setUp() {
+        bookstore = new BookstoreIndexed();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should import a CSV file with a header and quoted fields")
+    void testImportCsvFile() throws IOException {
+        Path feed = directory.resolve("feed.csv");
+        Files.write(feed, List.of(
+                "title,isbn,author,price,year",
+                "Effective Java,9780134685991,Joshua Bloch,69.99,2018",
+                "\"Head First Java, 2nd Edition\",9780596009205,\"Kathy \"\"K\"\" Sierra\",39.99,2005",
+                "",
+                "\"Clean\r\nCode\",978-0-13-235088-4,Robert Martin,49.99,2008"), StandardCharsets.UTF_8);
+
+        ImportReport report = CatalogImporter.csv().importFile(feed, bookstore);
+
+        assertEquals(3, report.getRowsRead());
+        assertEquals(3, report.getImported());
+        assertEquals(0, report.getRejectedCount());
+        assertEquals("Head First Java, 2nd Edition", bookstore.findByISBN("9780596009205").getTitle());
+        assertEquals("Kathy \"K\" Sierra", bookstore.findByISBN("9780596009205").getAuthor());
+        assertEquals("Clean\r\nCode", bookstore.findByISBN("9780132350884").getTitle());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should report rejected rows with line numbers and keep going")
+    void testRejectedRows() throws IOException {
+        String feed = "9780134685991\tEffective Java\tJoshua Bloch\t69.99\t2018\n"
+                + "123\tShort Isbn\tAuthor\t10.00\t2000\n"
+                + "9780596009205\tHead First Java\tKathy Sierra\tcheap\t2005\n"
+                + "9780132350884\t \tRobert Martin\t49.99\t2008\n"
+                + "9780201633610\tDesign Patterns\tGang of Four\t59.99\n"
+                + "9780201633610\tDesign Patterns\tGang of Four\t59.99\t1994\n"
+                + "9780134494166\tClean Architecture\tRobert Martin\t-1\t2017\n";
+
+        ImportReport report = CatalogImporter.tsv().importFrom(new StringReader(feed), bookstore);
+
+        assertEquals(7, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(5, report.getRejectedCount());
+        List<RejectedRow> rejected = report.getRejected();
+        assertEquals(List.of(2L, 3L, 4L, 5L, 7L), rejected.stream().map(RejectedRow::getLine).toList());
+        assertTrue(rejected.get(0).getReason().contains("ISBN"));
+        assertTrue(rejected.get(1).getReason().contains("Price"));
+        assertTrue(rejected.get(2).getReason().contains("Title"));
+        assertTrue(rejected.get(3).getReason().contains("Expected 5 fields"));
+        assertTrue(rejected.get(4).getReason().contains("negative"));
+        assertEquals(2, bookstore.size());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should count duplicates across batches and against the store")
+    void testDuplicatesAcrossBatches() throws IOException {
+        BookstoreArrayList target = new BookstoreArrayList();
+        target.add(new Book("0000000000003", "Existing", "Author", 1.0, 2000));
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            feed.append(String.format("%013d,Title %d,Author,1.00,2000%n", i % 20, i));
+        }
+
+        ImportReport report = new CatalogImporter(',', 4, false).importFrom(new StringReader(feed.toString()), target);
+
+        assertEquals(25, report.getRowsRead());
+        assertEquals(19, report.getImported());
+        assertEquals(6, report.getDuplicates());
+        assertEquals(20, target.size());
+        assertEquals("Existing", target.findByIsbn("0000000000003").getTitle());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should enforce ISBN checksums when asked")
+    void testChecksums() throws IOException {
+        String feed = "isbn,title,author,price,year\n"
+                + "0-306-40615-2,Valid,Author,1.00,2000\n"
+                + "1234567890,Invalid,Author,1.00,2000\n";
+
+        ImportReport report = new CatalogImporter(',', 10, true).importFrom(new StringReader(feed), bookstore);
+
+        assertEquals(1, report.getImported());
+        assertEquals(3L, report.getRejected().get(0).getLine());
+        assertNotNull(bookstore.findByISBN("9780306406157"));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should reject an unterminated quote and an incomplete header row")
+    void testMalformedInput() throws IOException {
+        ImportReport report = CatalogImporter.csv().importFrom(
+                new StringReader("9780134685991,\"Effective Java,Joshua Bloch,69.99,2018\n"), bookstore);
+        assertEquals(1, report.getRejectedCount());
+        assertEquals(0, bookstore.size());
+
+        report = CatalogImporter.csv().importFrom(new StringReader("isbn,title,price\n"), bookstore);
+        assertEquals(1L, report.getRejected().get(0).getLine());
+        assertThrows(IllegalArgumentException.class, () -> new CatalogImporter(',', 0, false));
+    }
+}
@@ -0,0 +1,299 @@
+package com.university.bookstore.io;
+
+import com.university.bookstore.impl.BookstoreArrayList;
+import com.university.bookstore.impl.BookstoreIndexed;
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the write-ahead-logged DurableBookstore.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("DurableBookstore Tests")
+class DurableBookstoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Book book1, book2, book3;
+
+    @BeforeEach
+    void setUp() {
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should replay logged mutations after reopening")
+    void testReplayLog() throws IOException {
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory)) {
+            assertTrue(store.add(book1));
+            assertTrue(store.add(book2));
+            assertFalse(store.add(book1));
+            assertTrue(store.removeByIsbn(book1.getIsbn()));
+            assertFalse(store.removeByIsbn(book1.getIsbn()));
+            assertTrue(store.add(book3));
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreIndexed(), directory)) {
+            assertEquals(List.of(book2, book3), reopened.getAllBooks());
+            assertEquals("Clean Code", reopened.findByISBN(book3.getIsbn()).getTitle());
+            assertTrue(reopened.toString().contains("logged=4"));
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should compact into a snapshot and replay the tail after it")
+    void testCompaction() throws IOException {
+        try (DurableBookstore store = DurableBookstore.relaxed(new BookstoreArrayList(), directory, 10, 0, 50)) {
+            for (int i = 0; i < 120; i++) {
+                store.add(new Book(String.format("%013d", i), "Title " + i, "Author", 1.0, 2000));
+            }
+            for (int i = 0; i < 120; i += 3) {
+                store.removeByIsbn(String.format("%013d", i));
+            }
+        }
+        assertTrue(Files.exists(directory.resolve("inventory.snapshot")));
+        assertTrue(Files.size(directory.resolve("wal.log")) < 50 * 64);
+
+        try (DurableBookstore reopened = DurableBookstore.relaxed(new BookstoreIndexed(), directory, 10, 0, 50)) {
+            assertEquals(80, reopened.size());
+            assertNull(reopened.findByISBN(String.format("%013d", 3)));
+            assertNotNull(reopened.findByISBN(String.format("%013d", 4)));
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should drop a torn record at the end of the log")
+    void testTornTail() throws IOException {
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory, 1_000)) {
+            store.add(book1);
+            store.add(book2);
+        }
+        Path log = directory.resolve("wal.log");
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreArrayList(), directory, 1_000)) {
+            assertEquals(List.of(book1), reopened.getAllBooks());
+            assertTrue(reopened.add(book3));
+        }
+        try (DurableBookstore again = new DurableBookstore(new BookstoreArrayList(), directory)) {
+            assertEquals(new HashSet<>(List.of(book1, book3)), new HashSet<>(again.getAllBooks()));
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should be idempotent when a compaction is interrupted before the log is cleared")
+    void testReplayOverSnapshot() throws IOException {
+        try (DurableBookstore store = DurableBookstore.relaxed(new BookstoreArrayList(), directory, 1, 10, 1_000)) {
+            store.add(book1);
+            store.removeByIsbn(book1.getIsbn());
+            store.add(book2);
+            store.add(new Book(book1.getIsbn(), "Effective Java 3rd", "Joshua Bloch", 45.0, 2018));
+            BookSnapshot.write(store, directory.resolve("inventory.snapshot"));
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreArrayList(), directory)) {
+            assertEquals(2, reopened.size());
+            assertEquals("Effective Java 3rd", reopened.findByISBN(book1.getIsbn()).getTitle());
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should reject a non-empty delegate and bad settings")
+    void testInvalidArguments() {
+        BookstoreArrayList full = new BookstoreArrayList();
+        full.add(book1);
+        assertThrows(IllegalArgumentException.class, () -> new DurableBookstore(full, directory));
+        assertThrows(NullPointerException.class, () -> new DurableBookstore(null, directory));
+        assertThrows(IllegalArgumentException.class,
+                () -> DurableBookstore.relaxed(new BookstoreArrayList(), directory, 0, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DurableBookstore(new BookstoreArrayList(), directory, 0));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should log only the items a batch changed")
+    void testBatchOperations() throws IOException {
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory)) {
+            assertEquals(3, store.addAll(List.of(book1, book2, book1, book3)).succeeded());
+            assertEquals(2, store.removeAllByIsbn(List.of(book1.getIsbn(), "9780201633610", book3.getIsbn()))
+                    .succeeded());
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreIndexed(), directory)) {
+            assertEquals(List.of(book2), reopened.getAllBooks());
+            assertTrue(reopened.toString().contains("logged=5"));
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should share fsyncs between concurrent writers and within a batch")
+    void testGroupCommit() throws Exception {
+        RecordingFsync fsync = new RecordingFsync(directory.resolve("wal.log"), 5);
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory, 1_000, fsync)) {
+            fsync.events.clear();
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int writer = t;
+                writers.add(new Thread(() -> {
+                    for (int i = 0; i < 25; i++) {
+                        assertTrue(store.add(new Book(String.format("%03d%010d", writer, i),
+                                "Title", "Author", 1.0, 2000)));
+                    }
+                }));
+            }
+            for (Thread thread : writers) thread.start();
+            for (Thread thread : writers) thread.join();
+            assertEquals(100, store.size());
+            long concurrentSyncs = fsync.events.stream().filter("wal.log"::equals).count();
+            assertTrue(concurrentSyncs > 0 && concurrentSyncs < 100, concurrentSyncs + " fsyncs for 100 adds");
+
+            fsync.events.clear();
+            List<Book> batch = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                batch.add(new Book(String.format("%03d%010d", 9, i), "Title", "Author", 1.0, 2000));
+            }
+            assertEquals(50, store.addAll(batch).succeeded());
+            assertEquals(List.of("wal.log"), fsync.events);
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreIndexed(), directory)) {
+            assertEquals(150, reopened.size());
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should replay records of any length")
+    void testReplayLongRecords() throws IOException {
+        Book longTitle = new Book("9780201633610", "Design Patterns ".repeat(100).trim(), "Erich Gamma", 59.99, 1994);
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory)) {
+            store.add(book1);
+            store.add(longTitle);
+            store.add(book2);
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreArrayList(), directory)) {
+            assertEquals(List.of(book1, longTitle, book2), reopened.getAllBooks());
+            assertEquals(longTitle.getTitle(), reopened.findByISBN(longTitle.getIsbn()).getTitle());
+        }
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should record a failed compaction and back off before retrying")
+    void testCompactionFailure() throws IOException {
+        Path blocker = directory.resolve("inventory.snapshot.tmp");
+        Files.createDirectories(blocker);
+        Files.createFile(blocker.resolve("keep"));
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory, 5)) {
+            for (int i = 0; i < 5; i++) {
+                assertTrue(store.add(new Book(String.format("%013d", i), "Title " + i, "Author", 1.0, 2000)));
+            }
+            IOException failure = store.lastCompactionFailure();
+            assertNotNull(failure);
+
+            for (int i = 5; i < 9; i++) {
+                assertTrue(store.add(new Book(String.format("%013d", i), "Title " + i, "Author", 1.0, 2000)));
+            }
+            assertSame(failure, store.lastCompactionFailure());
+            assertFalse(Files.exists(directory.resolve("inventory.snapshot")));
+
+            Files.delete(blocker.resolve("keep"));
+            Files.delete(blocker);
+            assertTrue(store.add(new Book(String.format("%013d", 9), "Title 9", "Author", 1.0, 2000)));
+            assertNull(store.lastCompactionFailure());
+            assertTrue(Files.exists(directory.resolve("inventory.snapshot")));
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreIndexed(), directory, 5)) {
+            assertEquals(10, reopened.size());
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Should make the snapshot rename durable before truncating the log")
+    void testCompactionFsyncOrder() throws IOException {
+        RecordingFsync fsync = new RecordingFsync(directory.resolve("wal.log"));
+        try (DurableBookstore store = new DurableBookstore(new BookstoreArrayList(), directory, 1_000, fsync)) {
+            store.add(book1);
+            store.add(book2);
+            fsync.events.clear();
+            fsync.logSizesAtDirectorySync.clear();
+            store.compact();
+
+            assertEquals(List.of("inventory.snapshot.tmp+meta", "dir", "wal.log+meta"), fsync.events);
+            assertEquals(1, fsync.logSizesAtDirectorySync.size());
+            assertTrue(fsync.logSizesAtDirectorySync.get(0) > 8, "log was truncated before the rename was durable");
+        }
+
+        try (DurableBookstore reopened = new DurableBookstore(new BookstoreIndexed(), directory)) {
+            assertEquals(List.of(book1, book2), reopened.getAllBooks());
+        }
+    }
+
+    /**
+     * Forces for real while recording each call, the log's length at each
+     * directory fsync, and optionally sleeping to widen the fsync window.
+     */
+    private static final class RecordingFsync implements Fsync {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> logSizesAtDirectorySync = new ArrayList<>();
+        private final Path log;
+        private final long delayMillis;
+
+        RecordingFsync(Path log) {
+            this(log, 0);
+        }
+
+        RecordingFsync(Path log, long delayMillis) {
+            this.log = log;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void force(FileChannel channel, Path file, boolean metadata) throws IOException {
+            Fsync.SYSTEM.force(channel, file, metadata);
+            events.add(file.getFileName() + (metadata ? "+meta" : ""));
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void forceDirectory(Path directory) throws IOException {
+            Fsync.SYSTEM.forceDirectory(directory);
+            events.add("dir");
+            if (Files.exists(log)) logSizesAtDirectorySync.add(Files.size(log));
+        }
+    }
+}
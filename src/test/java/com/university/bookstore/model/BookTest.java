@@ -6,6 +6,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Year;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -206,6 +208,68 @@ class BookTest {
         assertEquals("1234567890", book.getISBN());
     }
 
+    /**
+     * Tests the ISBN shapes accepted after removing dashes and trimming.
+     *
+     * @param isbn valid ISBN spelling
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"123456789X", "0-306-40615-2", " -9780306406157- ", "978-0-306-40615-7\n"})
+    void testValidIsbnShapes(String isbn) {
+        String expected = isbn.replace("-", "").trim();
+        Book book = new Book("Title", "Author", 2020, 10.0, isbn);
+        assertEquals(expected, book.getISBN());
+    }
+
+    /**
+     * Tests ISBN shapes that are rejected: wrong length, letters, a lower-case
+     * or misplaced X, and interior whitespace.
+     *
+     * @param isbn malformed ISBN value
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"123456789x", "X234567890", "978030640615X", "12345 67890",
+            "97803064061570", "12345678901", "١٢٣٤٥٦٧٨٩٠", "---"})
+    void testMalformedIsbnShapes(String isbn) {
+        assertThrows(IllegalArgumentException.class, () ->
+                new Book("Title", "Author", 2020, 10.0, isbn));
+    }
+
+    /**
+     * Tests that an ISBN already in canonical form is kept as the same string.
+     */
+    @Test
+    void testCanonicalIsbnNotCopied() {
+        String isbn = "9780306406157";
+        assertSame(isbn, new Book("Title", "Author", 2020, 10.0, isbn).getISBN());
+    }
+
+    /**
+     * Tests that restore rebuilds an equal book from its fields.
+     */
+    @Test
+    void testRestoreRoundTrip() {
+        Book restored = Book.restore(validBook.getIsbnKey(), false, validBook.getTitle(),
+                validBook.getAuthor(), validBook.getPrice(), validBook.getYear());
+        assertEquals(validBook, restored);
+        assertEquals(validBook.getTitle(), restored.getTitle());
+        assertEquals(VALID_ISBN_13, restored.getISBN());
+    }
+
+    /**
+     * Tests that restore validates every field except the ISBN.
+     */
+    @Test
+    void testRestoreRejectsInvalidFields() {
+        long key = validBook.getIsbnKey();
+        assertThrows(IllegalArgumentException.class, () -> Book.restore(key, false, " ", "Author", 10.0, 2020));
+        assertThrows(NullPointerException.class, () -> Book.restore(key, false, "Title", null, 10.0, 2020));
+        assertThrows(IllegalArgumentException.class, () -> Book.restore(key, false, "Title", "Author", -1.0, 2020));
+        assertThrows(IllegalArgumentException.class,
+                () -> Book.restore(key, false, "Title", "Author", Double.NaN, 2020));
+        assertThrows(IllegalArgumentException.class, () -> Book.restore(key, false, "Title", "Author", 10.0, 1000));
+    }
+
     /**
      * Tests performance of creating many Book objects.
      */
@@ -0,0 +1,111 @@
+package com.university.bookstore.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link Isbn} checksum and key helpers.
+ */
+class IsbnTest {
+
+    /**
+     * Tests ISBNs whose check digit is correct.
+     *
+     * @param isbn valid ISBN
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"9780306406157", "978-0-306-40615-7", "0306406152", "0-306-40615-2",
+            "080442957X", "9780134685991", " 9780596009205 "})
+    void testValidChecksums(String isbn) {
+        assertTrue(Isbn.isValid(isbn));
+    }
+
+    /**
+     * Tests ISBNs that are well formed but fail the checksum, or are malformed.
+     *
+     * @param isbn invalid ISBN
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"9780306406158", "0306406153", "1234567890", "0000000000001",
+            "", "12345", "97803064061570", "080442957x", "9780 306406157"})
+    void testInvalidChecksums(String isbn) {
+        assertFalse(Isbn.isValid(isbn));
+    }
+
+    /**
+     * Tests that ISBN-10 is normalized to ISBN-13, including an X check digit.
+     */
+    @Test
+    void testToIsbn13() {
+        assertEquals("9780306406157", Isbn.toIsbn13("0-306-40615-2"));
+        assertEquals("9780804429573", Isbn.toIsbn13("080442957X"));
+        assertEquals("9780134685991", Isbn.toIsbn13("978-0-13-468599-1"));
+        assertThrows(IllegalArgumentException.class, () -> Isbn.toIsbn13("1234567890"));
+        assertThrows(IllegalArgumentException.class, () -> Isbn.toIsbn13(null));
+    }
+
+    /**
+     * Tests the numeric keys: both spellings of a valid ISBN share one key,
+     * and malformed input maps to NO_KEY.
+     */
+    @Test
+    void testKeys() {
+        assertEquals(9780306406157L, Isbn.key("9780306406157"));
+        assertEquals(Isbn.key("9780306406157"), Isbn.key("0306406152"));
+        assertEquals(Isbn.NO_KEY, Isbn.key(null));
+        assertEquals(Isbn.NO_KEY, Isbn.key("97803064061X7"));
+        assertEquals(Isbn.NO_KEY, Isbn.key("abc"));
+        assertTrue(Isbn.key("1234567890") >= 0);
+        assertFalse(Isbn.isValidKey(Isbn.key("1234567890")));
+    }
+
+    /**
+     * Tests that keys of distinct ISBN strings never collide, including
+     * ISBN-10s with a wrong check digit.
+     */
+    @Test
+    void testKeysAreDistinct() {
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < 11; i++) {
+            String check = i == 10 ? "X" : String.valueOf(i);
+            assertTrue(keys.add(Isbn.key("030640615" + check)));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(keys.add(Isbn.key("978030640616" + i)));
+        }
+        assertFalse(keys.add(Isbn.key("9780306406157")));
+    }
+
+    /**
+     * Tests that books with both spellings of an ISBN are equal.
+     */
+    @Test
+    void testBookEqualityAcrossSpellings() {
+        Book isbn10 = new Book("Title", "Author", 2020, 10.0, "0-306-40615-2");
+        Book isbn13 = new Book("Title", "Author", 2020, 10.0, "9780306406157");
+        assertEquals(isbn10, isbn13);
+        assertEquals(isbn10.hashCode(), isbn13.hashCode());
+        assertEquals("0306406152", isbn10.getISBN());
+        assertTrue(isbn10.hasValidIsbnChecksum());
+        assertFalse(new Book("Title", "Author", 2020, 10.0, "1234567890").hasValidIsbnChecksum());
+    }
+
+    /**
+     * Tests that format rebuilds every spelling a Book stores from its key.
+     */
+    @Test
+    void testFormat() {
+        for (String isbn : new String[] {"9780306406157", "0306406152", "080442957X", "1234567890",
+                "030640615X", "9780306406150", "0000000000000"}) {
+            assertEquals(isbn, Isbn.format(Isbn.key(isbn), isbn.length() == 10));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Isbn.format(Isbn.NO_KEY, false));
+        assertThrows(IllegalArgumentException.class, () -> Isbn.format(Isbn.key("9790306406156"), true));
+    }
+}
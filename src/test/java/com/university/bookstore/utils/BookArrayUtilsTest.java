@@ -2,7 +2,10 @@ package com.university.bookstore.utils;
 
 import com.university.bookstore.model.Book;
 import org.junit.jupiter.api.*;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 
@@ -363,6 +366,41 @@ class BookArrayUtilsTest {
         assertNull(BookArrayUtils.findOldest(onlyNulls));
     }
 
+    @Test
+    @Order(30)
+    @DisplayName("Should radix and counting sort stably, matching the comparator sort")
+    void testSpecializedSortsMatchComparatorSort() {
+        Comparator<Book> byPrice = Comparator.nullsLast(Comparator.comparingDouble(Book::getPrice));
+        Comparator<Book> byYear = Comparator.nullsLast(Comparator.comparingInt(Book::getYear));
+        double[] prices = {-0.0, 0.0, 9.99, 10.0, 49.99, 69.99, 1_000_000.0};
+        Random random = new Random(11);
+
+        for (int size : new int[]{BookArrayUtils.SMALL_SORT_THRESHOLD - 1, BookArrayUtils.SMALL_SORT_THRESHOLD, 5_000}) {
+            Book[] input = new Book[size];
+            for (int i = 0; i < size; i++) {
+                if (random.nextInt(10) == 0) continue;
+                input[i] = new Book(String.format("%013d", i), "Title " + i, "Author",
+                        prices[random.nextInt(prices.length)], 1900 + random.nextInt(30));
+            }
+
+            Book[] expected = input.clone();
+            Arrays.sort(expected, byPrice);
+            Book[] actual = input.clone();
+            BookArrayUtils.sortByPrice(actual);
+            assertArrayEquals(expected, actual, "sortByPrice, size " + size);
+
+            expected = input.clone();
+            Arrays.sort(expected, byYear);
+            actual = input.clone();
+            BookArrayUtils.sortByYear(actual);
+            assertArrayEquals(expected, actual, "sortByYear, size " + size);
+        }
+
+        Book[] onlyNulls = new Book[BookArrayUtils.SMALL_SORT_THRESHOLD];
+        BookArrayUtils.sortByPrice(onlyNulls);
+        BookArrayUtils.sortByYear(onlyNulls);
+        assertArrayEquals(new Book[BookArrayUtils.SMALL_SORT_THRESHOLD], onlyNulls);
+    }
 
     private boolean containsBook(Book[] array, Book book) {
         for (Book b : array) {
@@ -0,0 +1,79 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookBitSet Tests")
+class BookBitSetTest {
+
+    private Book[] books;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(5);
+        books = new Book[1_003];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book(String.format("%013d", i), "Title " + i, "Author",
+                    1.0 + random.nextInt(20_000) / 100.0, 1900 + random.nextInt(120));
+        }
+        books[70] = null;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should match the BookArrayUtils filters")
+    void testMatchesArrayFilters() {
+        assertArrayEquals(BookArrayUtils.filterPriceAtMost(books, 40.0),
+                BookBitSet.priceAtMost(books, 40.0).materialize(books));
+        assertArrayEquals(BookArrayUtils.filterByYearRange(books, 1960, 1979),
+                BookBitSet.yearBetween(books, 1960, 1979).materialize(books));
+        assertArrayEquals(BookArrayUtils.filterByDecade(books, 1990),
+                BookBitSet.decade(books, 1990).materialize(books));
+
+        books[70] = books[71];
+        assertArrayEquals(BookBitSet.priceAtMost(books, 40.0).toRows(),
+                BookBitSet.priceAtMost(BookColumns.prices(books), 40.0).toRows());
+        assertArrayEquals(BookBitSet.yearBetween(books, 1960, 1979).toRows(),
+                BookBitSet.yearBetween(BookColumns.years(books), 1960, 1979).toRows());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should combine filters with and, or, andNot and not")
+    void testCombinators() {
+        Book[] expected = BookArrayUtils.filterPriceAtMost(BookArrayUtils.filterByYearRange(books, 1960, 1999), 100.0);
+        BookBitSet cheapInRange = BookBitSet.yearBetween(books, 1960, 1999).and(BookBitSet.priceAtMost(books, 100.0));
+        assertArrayEquals(expected, cheapInRange.materialize(books));
+        assertEquals(expected.length, cheapInRange.cardinality());
+
+        BookBitSet sixtiesOrNineties = BookBitSet.decade(books, 1960).or(BookBitSet.decade(books, 1990));
+        BookBitSet withoutEighties = BookBitSet.yearBetween(books, 1960, 1999)
+                .andNot(BookBitSet.yearBetween(books, 1970, 1989));
+        assertArrayEquals(sixtiesOrNineties.toRows(), withoutEighties.toRows());
+
+        BookBitSet notCheap = BookBitSet.priceAtMost(books, 100.0).not();
+        for (int i = 0; i < books.length; i++) {
+            assertEquals(books[i] == null || books[i].getPrice() > 100.0, notCheap.get(i));
+        }
+        assertEquals(books.length, BookBitSet.all(books.length).cardinality());
+        assertEquals(0, BookBitSet.all(books.length).not().cardinality());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject mismatched sizes and invalid bounds")
+    void testEdgeCases() {
+        assertEquals(0, new BookBitSet(0).not().materialize(new Book[0]).length);
+        assertEquals(64, BookBitSet.all(64).cardinality());
+        assertEquals(0, BookBitSet.yearBetween(books, 2000, 1990).cardinality());
+        assertThrows(IllegalArgumentException.class, () -> BookBitSet.priceAtMost(books, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> new BookBitSet(3).and(new BookBitSet(4)));
+        assertThrows(IllegalArgumentException.class, () -> new BookBitSet(3).materialize(books));
+        assertThrows(IndexOutOfBoundsException.class, () -> new BookBitSet(3).get(3));
+    }
+}
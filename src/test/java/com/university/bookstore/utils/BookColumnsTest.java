@@ -0,0 +1,73 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BookColumns Tests")
+class BookColumnsTest {
+
+    private Book[] books;
+    private double[] prices;
+    private int[] years;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(3);
+        books = new Book[1_003];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book(String.format("%013d", i), "Title " + i, "Author",
+                    1.0 + random.nextInt(20_000) / 100.0, 1900 + random.nextInt(120));
+        }
+        prices = BookColumns.prices(books);
+        years = BookColumns.years(books);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should match the BookArrayUtils kernels")
+    void testMatchesObjectKernels() {
+        assertEquals(BookArrayUtils.countBeforeYear(books, 1950), BookColumns.countBeforeYear(years, 1950));
+        assertEquals(BookArrayUtils.averagePrice(books), BookColumns.averagePrice(prices), 1e-9);
+        assertArrayEquals(BookArrayUtils.filterPriceAtMost(books, 40.0),
+                BookColumns.gather(books, BookColumns.filterPriceAtMost(prices, 40.0)));
+        assertArrayEquals(BookArrayUtils.filterByYearRange(books, 1960, 1979),
+                BookColumns.gather(books, BookColumns.filterByYearRange(years, 1960, 1979)));
+        assertSame(BookArrayUtils.findOldest(books), books[BookColumns.findOldest(years)]);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should chain filters through selection vectors")
+    void testSelectionVectors() {
+        int[] sixties = BookColumns.filterByYearRange(years, 1960, 1969);
+        int[] cheapSixties = BookColumns.filterPriceAtMost(prices, sixties, 50.0);
+
+        Book[] expected = BookArrayUtils.filterPriceAtMost(BookArrayUtils.filterByYearRange(books, 1960, 1969), 50.0);
+        assertArrayEquals(expected, BookColumns.gather(books, cheapSixties));
+        assertArrayEquals(cheapSixties, BookColumns.filterByYearRange(years,
+                BookColumns.filterPriceAtMost(prices, 50.0), 1960, 1969));
+
+        Book[] selected = BookColumns.gather(books, sixties);
+        assertEquals(BookArrayUtils.averagePrice(selected), BookColumns.averagePrice(prices, sixties), 1e-9);
+        assertEquals(BookArrayUtils.countBeforeYear(selected, 1965), BookColumns.countBeforeYear(years, sixties, 1965));
+        assertSame(BookArrayUtils.findOldest(selected), books[BookColumns.findOldest(years, sixties)]);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should handle empty columns and invalid bounds")
+    void testEdgeCases() {
+        assertEquals(0.0, BookColumns.averagePrice(new double[0]));
+        assertEquals(0.0, BookColumns.averagePrice(prices, new int[0]));
+        assertEquals(-1, BookColumns.findOldest(new int[0]));
+        assertEquals(-1, BookColumns.findOldest(years, new int[0]));
+        assertEquals(0, BookColumns.filterByYearRange(years, 2000, 1990).length);
+        assertThrows(IllegalArgumentException.class, () -> BookColumns.filterPriceAtMost(prices, -1.0));
+        assertThrows(NullPointerException.class, () -> BookColumns.prices(new Book[]{null}));
+    }
+}
@@ -0,0 +1,93 @@
+package com.university.bookstore.utils;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("LongIntHashMap Tests")
+class LongIntHashMapTest {
+
+    private LongIntHashMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new LongIntHashMap();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should put, get and remove entries")
+    void testBasicOperations() {
+        assertTrue(map.isEmpty());
+        assertEquals(LongIntHashMap.MISSING, map.get(9780134685991L));
+
+        assertEquals(LongIntHashMap.MISSING, map.put(9780134685991L, 1));
+        assertEquals(LongIntHashMap.MISSING, map.put(0L, 2));
+        assertEquals(1, map.put(9780134685991L, 3));
+        assertEquals(2, map.size());
+        assertEquals(3, map.get(9780134685991L));
+        assertEquals(2, map.get(0L));
+        assertTrue(map.containsKey(0L));
+
+        assertEquals(2, map.putIfAbsent(0L, 7));
+        assertEquals(2, map.get(0L));
+        assertEquals(LongIntHashMap.MISSING, map.putIfAbsent(5L, 7));
+        assertEquals(7, map.get(5L));
+
+        assertEquals(3, map.remove(9780134685991L));
+        assertEquals(LongIntHashMap.MISSING, map.remove(9780134685991L));
+        assertFalse(map.containsKey(9780134685991L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should reject negative keys and report them missing")
+    void testNegativeKeys() {
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1L, 1));
+        assertEquals(LongIntHashMap.MISSING, map.get(-1L));
+        assertEquals(LongIntHashMap.MISSING, map.remove(-5L));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should match HashMap through random churn")
+    void testRandomChurn() {
+        Random random = new Random(7);
+        Map<Long, Integer> reference = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = 9_780_000_000_000L + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.remove(key));
+            } else {
+                Integer expected = reference.put(key, i);
+                assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.put(key, i));
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        for (long key = 9_780_000_000_000L; key < 9_780_000_005_000L; key++) {
+            Integer expected = reference.get(key);
+            assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.get(key));
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should clear and be reusable")
+    void testClear() {
+        for (long key = 0; key < 1_000; key++) {
+            map.put(key, (int) key);
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(LongIntHashMap.MISSING, map.get(10L));
+        map.put(10L, 1);
+        assertEquals(1, map.get(10L));
+    }
+}
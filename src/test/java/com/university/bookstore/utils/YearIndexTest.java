@@ -0,0 +1,96 @@
+package com.university.bookstore.utils;
+
+import com.university.bookstore.model.Book;
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("YearIndex Tests")
+class YearIndexTest {
+
+    private Book book1, book2, book3, book4, book5;
+
+    @BeforeEach
+    void setUp() {
+        book1 = new Book("9780134685991", "Effective Java", "Joshua Bloch", 69.99, 2018);
+        book2 = new Book("9780596009205", "Head First Java", "Kathy Sierra", 39.99, 2005);
+        book3 = new Book("9780132350884", "Clean Code", "Robert Martin", 49.99, 2008);
+        book4 = new Book("9780201633610", "Design Patterns", "Gang of Four", 59.99, 1994);
+        book5 = new Book("9780134494166", "Clean Architecture", "Robert Martin", 44.99, 2017);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should read years, ranges and decades from buckets")
+    void testLookups() {
+        Book sameYear = new Book("9780000000002", "Another 2008", "Someone", 10.0, 2008);
+        YearIndex index = YearIndex.of(new Book[]{book1, book2, null, book3, book4, book5, sameYear});
+
+        assertEquals(6, index.size());
+        assertEquals(List.of(book3, sameYear), index.findByYear(2008));
+        assertEquals(2, index.count(2008));
+        assertTrue(index.findByYear(1500).isEmpty());
+        assertEquals(List.of(book2, book3, sameYear, book5, book1), index.findBetween(2000, 2019));
+        assertArrayEquals(new Book[]{book5, book1}, index.arrayBetween(2010, 2019));
+        assertEquals(4, index.countBetween(2005, 2017));
+        assertEquals(0, index.countBetween(2020, 2010));
+        assertEquals(6, index.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, index.countBetween(Integer.MIN_VALUE, 1000));
+        assertEquals(Map.of(1990, 1, 2000, 3, 2010, 2), index.countByDecade());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should keep bucket order and counts through removals")
+    void testRemove() {
+        Book sameYear = new Book("9780000000002", "Another 2008", "Someone", 10.0, 2008);
+        YearIndex index = YearIndex.of(new Book[]{book3, book4, sameYear});
+        assertEquals(2, index.count(2008));
+
+        assertTrue(index.remove(book3));
+        assertFalse(index.remove(book3));
+        assertFalse(index.remove(book1));
+        assertEquals(List.of(sameYear), index.findByYear(2008));
+        assertEquals(2, index.size());
+        assertEquals(1, index.countBetween(2000, 2009));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.countByDecade().isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should match a scan for random years")
+    void testMatchesScan() {
+        Random random = new Random(5);
+        Book[] books = new Book[5_000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book(String.format("%013d", i), "Title", "Author", 10.0,
+                    Book.MIN_YEAR + random.nextInt(570));
+        }
+        YearIndex index = YearIndex.of(books);
+        Map<Integer, Integer> decades = new HashMap<>();
+        for (Book book : books) {
+            decades.merge(book.getYear() / 10 * 10, 1, Integer::sum);
+        }
+        assertEquals(decades, index.countByDecade());
+        assertEquals(decades, BookArrayUtils.countByDecade(books));
+
+        for (int from = 1440; from < 2040; from += 37) {
+            int to = from + random.nextInt(60);
+            int expected = 0;
+            for (Book book : books) {
+                if (book.getYear() >= from && book.getYear() <= to) expected++;
+            }
+            assertEquals(expected, index.countBetween(from, to));
+            assertEquals(expected, index.findBetween(from, to).size());
+        }
+    }
+}